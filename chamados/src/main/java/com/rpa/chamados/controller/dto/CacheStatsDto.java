@@ -0,0 +1,12 @@
+package com.rpa.chamados.controller.dto;
+
+public record CacheStatsDto(
+        String name,
+        int size,
+        int maxSize,
+        long hits,
+        long misses,
+        long evictions,
+        double hitRatio
+) {
+}
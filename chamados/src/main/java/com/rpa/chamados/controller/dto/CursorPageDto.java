@@ -0,0 +1,15 @@
+package com.rpa.chamados.controller.dto;
+
+import java.util.List;
+
+/**
+ * Página obtida por keyset. {@code nextCursor} é opaco para o cliente e {@code total}
+ * só é preenchido quando a contagem é solicitada explicitamente.
+ */
+public record CursorPageDto<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext,
+        Long total
+) {
+}
@@ -0,0 +1,13 @@
+package com.rpa.chamados.controller.dto;
+
+import java.util.Map;
+
+public record DashboardCountersDto(
+        long total,
+        Map<String, Long> byServiceType,
+        Map<String, Long> byCelula,
+        Map<String, Long> byDepartment,
+        Map<String, Long> byTechnology,
+        Map<String, Long> byWeek
+) {
+}
@@ -0,0 +1,12 @@
+package com.rpa.chamados.controller.dto;
+
+import com.rpa.chamados.domain.model.enums.Nature;
+
+import java.util.Map;
+
+public record DemandHoursDto(
+        Long demandId,
+        Double totalHours,
+        Map<Nature, Double> hoursByNature
+) {
+}
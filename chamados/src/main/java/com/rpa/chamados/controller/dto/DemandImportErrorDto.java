@@ -0,0 +1,13 @@
+package com.rpa.chamados.controller.dto;
+
+/**
+ * Erro de uma linha da importação em lote. {@code row} começa em 1 e conta apenas as linhas
+ * de dados (sem o cabeçalho, no caso do CSV).
+ */
+public record DemandImportErrorDto(
+        int row,
+        String field,
+        String message,
+        Object rejectedValue
+) {
+}
@@ -0,0 +1,14 @@
+package com.rpa.chamados.controller.dto;
+
+import java.util.List;
+
+/**
+ * Resultado da importação em lote. Quando há erros nenhuma demanda é criada e
+ * {@code created} fica zerado.
+ */
+public record DemandImportResultDto(
+        int received,
+        int created,
+        List<DemandImportErrorDto> errors
+) {
+}
@@ -0,0 +1,80 @@
+package com.rpa.chamados.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Versão enxuta de {@link RequestDto} para as listagens, lida direto do banco por
+ * projeção. Campos não solicitados em {@code fields} ficam nulos e saem do JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RequestSummaryDto(
+        String id,
+        ServiceType serviceType,
+        String description,
+        String submittedBy,
+        SubmitterSummaryDto submitterInfo,
+        String celula,
+        String robotSelecionado,
+        String tecnologiaAutomacao,
+        String empresa,
+        String roi,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static final Set<String> FIELDS = Set.of(
+        "id", "serviceType", "description", "submittedBy", "submitterInfo", "celula", "robotSelecionado",
+        "tecnologiaAutomacao", "empresa", "roi", "createdAt", "updatedAt"
+    );
+
+    /**
+     * Construtor usado pelas consultas JPQL ({@code SELECT new ...}).
+     */
+    public RequestSummaryDto(UUID id, Class<?> requestType, String description, String submittedBy,
+                             String celula, String robot, String tecnologiaAutomacao, String empresa, String roi,
+                             LocalDateTime createdAt, LocalDateTime updatedAt,
+                             UUID userId, String userName, String userEmail, String userPhone,
+                             String userDepartment, String userCompany) {
+        this(
+            id.toString(),
+            ServiceType.of(requestType),
+            description,
+            submittedBy,
+            userId != null
+                ? new SubmitterSummaryDto(userId.toString(), userName, userEmail, userPhone, userDepartment, userCompany)
+                : null,
+            celula,
+            robot,
+            tecnologiaAutomacao,
+            empresa,
+            roi,
+            createdAt,
+            updatedAt
+        );
+    }
+
+    /**
+     * Cópia só com os campos pedidos. O {@code id} é sempre mantido.
+     */
+    public RequestSummaryDto select(Set<String> fields) {
+        return new RequestSummaryDto(
+            id,
+            fields.contains("serviceType") ? serviceType : null,
+            fields.contains("description") ? description : null,
+            fields.contains("submittedBy") ? submittedBy : null,
+            fields.contains("submitterInfo") ? submitterInfo : null,
+            fields.contains("celula") ? celula : null,
+            fields.contains("robotSelecionado") ? robotSelecionado : null,
+            fields.contains("tecnologiaAutomacao") ? tecnologiaAutomacao : null,
+            fields.contains("empresa") ? empresa : null,
+            fields.contains("roi") ? roi : null,
+            fields.contains("createdAt") ? createdAt : null,
+            fields.contains("updatedAt") ? updatedAt : null
+        );
+    }
+}
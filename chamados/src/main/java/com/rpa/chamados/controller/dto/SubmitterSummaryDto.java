@@ -0,0 +1,14 @@
+package com.rpa.chamados.controller.dto;
+
+/**
+ * Dados do solicitante exibidos nas listagens de chamados.
+ */
+public record SubmitterSummaryDto(
+        String id,
+        String name,
+        String email,
+        String phone,
+        String department,
+        String company
+) {
+}
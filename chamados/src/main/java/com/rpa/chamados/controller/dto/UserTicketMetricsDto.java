@@ -10,6 +10,6 @@ public record UserTicketMetricsDto(
         long totalTickets,
         Map<String, Long> ticketsByServiceType,
         LocalDateTime lastSubmission,
-        double avgResponseTime
+        double avgHoursToLastUpdate
 ) {
 }
\ No newline at end of file
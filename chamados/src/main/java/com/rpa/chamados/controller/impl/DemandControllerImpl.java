@@ -1,7 +1,9 @@
 package com.rpa.chamados.controller.impl;
 
 import com.rpa.chamados.controller.dto.CreateDemandRequest;
+import com.rpa.chamados.controller.dto.CursorPageDto;
 import com.rpa.chamados.controller.dto.DemandDto;
+import com.rpa.chamados.controller.dto.DemandImportResultDto;
 import com.rpa.chamados.controller.dto.GetAllDemandsResponse;
 import com.rpa.chamados.controller.dto.UpdateDemandRequest;
 import com.rpa.chamados.domain.model.enums.DemandStatus;
@@ -11,9 +13,13 @@ import com.rpa.chamados.security.annotations.RequiresRole;
 import com.rpa.chamados.service.DemandService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,6 +45,30 @@ public class DemandControllerImpl {
         return ResponseEntity.status(201).body(demand);
     }
 
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresRole({UserRole.ANALYST, UserRole.ADMIN})
+    public ResponseEntity<DemandImportResultDto> importDemands(
+            @RequestBody List<CreateDemandRequest> requests
+    ) {
+        log.info("Importing {} demands", requests.size());
+        return importResponse(service.importDemands(requests));
+    }
+
+    @PostMapping(path = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RequiresRole({UserRole.ANALYST, UserRole.ADMIN})
+    public ResponseEntity<DemandImportResultDto> importDemandsCsv(
+            @RequestPart("file") MultipartFile file
+    ) throws IOException {
+        log.info("Importing demands from CSV file: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+        try (InputStream csv = file.getInputStream()) {
+            return importResponse(service.importDemandsCsv(csv));
+        }
+    }
+
+    private ResponseEntity<DemandImportResultDto> importResponse(DemandImportResultDto result) {
+        return ResponseEntity.status(result.errors().isEmpty() ? 201 : 400).body(result);
+    }
+
     @PutMapping
     @RequiresRole({UserRole.ANALYST, UserRole.ADMIN})
     public ResponseEntity<DemandDto> updateDemand(
@@ -58,6 +88,29 @@ public class DemandControllerImpl {
         return ResponseEntity.ok(demands);
     }
 
+    @GetMapping("/query")
+    public ResponseEntity<CursorPageDto<DemandDto>> queryDemands(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) DemandStatus status,
+            @RequestParam(required = false) ServiceType type,
+            @RequestParam(required = false) UUID analystId,
+            @RequestParam(required = false) UUID focalPointId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long clientId,
+            @RequestParam(required = false) Long robotId,
+            @RequestParam(required = false) Long client,
+            @RequestParam(required = false) Long service,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        log.info("Querying demands (status: {}, type: {}, cursor: {})", status, type, cursor != null);
+        CursorPageDto<DemandDto> demands = this.service.queryDemands(search, status, type, analystId, focalPointId,
+                projectId, clientId, robotId, client, service, cursor, limit, includeTotal);
+
+        return ResponseEntity.ok(demands);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<DemandDto> getDemandById(
             @PathVariable Long id
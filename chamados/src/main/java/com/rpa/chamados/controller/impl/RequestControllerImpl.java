@@ -1,21 +1,25 @@
 package com.rpa.chamados.controller.impl;
 
 import com.rpa.chamados.controller.dto.*;
+import com.rpa.chamados.domain.model.enums.ExportFormat;
+import com.rpa.chamados.domain.model.enums.TimelineGranularity;
 import com.rpa.chamados.domain.model.enums.UserRole;
 import com.rpa.chamados.security.annotations.RequiresRole;
+import com.rpa.chamados.service.CallExportService;
 import com.rpa.chamados.service.RequestService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -23,9 +27,11 @@ import java.util.Map;
 public class RequestControllerImpl {
 
     private final RequestService service;
+    private final CallExportService callExportService;
 
-    public RequestControllerImpl(RequestService service) {
+    public RequestControllerImpl(RequestService service, CallExportService callExportService) {
         this.service = service;
+        this.callExportService = callExportService;
     }
 
     @PostMapping(path = "/melhoria", consumes = "multipart/form-data")
@@ -80,8 +86,31 @@ public class RequestControllerImpl {
 
     @GetMapping
     @RequiresRole({UserRole.ANALYST, UserRole.DEVELOP, UserRole.ADMIN})
-    public ResponseEntity<List<RequestDto>> getAllCalls() {
-        List<RequestDto> calls = service.getAllCalls();
+    public ResponseEntity<CursorPageDto<?>> getCalls(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(service.getCallSummaries(cursor, limit, includeTotal, fields));
+        }
+
+        CursorPageDto<RequestDto> calls = service.getCalls(cursor, limit, includeTotal);
+        return ResponseEntity.ok(calls);
+    }
+
+    @GetMapping("/recent")
+    @RequiresRole({UserRole.ANALYST, UserRole.DEVELOP, UserRole.ADMIN})
+    public ResponseEntity<List<?>> getRecentCalls(
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(service.getRecentCallSummaries(limit, fields));
+        }
+
+        List<RequestDto> calls = service.getRecentCalls(limit);
         return ResponseEntity.ok(calls);
     }
 
@@ -130,9 +159,16 @@ public class RequestControllerImpl {
         return ResponseEntity.ok(dashboardData);
     }
 
+    @PostMapping("/dashboard/counters/rebuild")
+    @RequiresRole(UserRole.ADMIN)
+    public ResponseEntity<DashboardCountersDto> rebuildDashboardCounters() {
+        DashboardCountersDto counters = service.rebuildDashboardCounters();
+        return ResponseEntity.ok(counters);
+    }
+
     @GetMapping("/search")
     @RequiresRole({UserRole.ANALYST, UserRole.DEVELOP, UserRole.ADMIN})
-    public ResponseEntity<Map<String, Object>> searchCalls(
+    public ResponseEntity<CursorPageDto<?>> searchCalls(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String serviceType,
             @RequestParam(required = false) String department,
@@ -142,22 +178,43 @@ public class RequestControllerImpl {
             @RequestParam(required = false) String company,
             @RequestParam(required = false) String dateFrom,
             @RequestParam(required = false) String dateTo,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int limit
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) Set<String> fields
     ) {
-        Pageable pageable = PageRequest.of(page, limit);
-        Page<RequestDto> results = service.searchCalls(search, serviceType, department, 
-                                                     technology, celulaCode, submittedBy, 
-                                                     company, dateFrom, dateTo, pageable);
-        
-        Map<String, Object> response = Map.of(
-            "calls", results.getContent(),
-            "total", results.getTotalElements(),
-            "page", results.getNumber(),
-            "totalPages", results.getTotalPages()
-        );
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(service.searchCallSummaries(search, serviceType, department, technology,
+                                                                 cursor, limit, includeTotal, fields));
+        }
+
+        CursorPageDto<RequestDto> results = service.searchCalls(search, serviceType, department, 
+                                                              technology, celulaCode, submittedBy, 
+                                                              company, dateFrom, dateTo,
+                                                              cursor, limit, includeTotal);
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/export")
+    @RequiresRole({UserRole.ANALYST, UserRole.DEVELOP, UserRole.ADMIN})
+    public ResponseEntity<StreamingResponseBody> exportCalls(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String serviceType,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String technology,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        String filename = "chamados-" + LocalDate.now() + "." + exportFormat.getExtension();
+
+        StreamingResponseBody body = out -> callExportService.exportCalls(
+                search, serviceType, department, technology, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
     }
 
     @DeleteMapping("/{id}")
@@ -169,7 +226,14 @@ public class RequestControllerImpl {
 
     @GetMapping("/user/{userId}")
     @RequiresRole({UserRole.ANALYST, UserRole.DEVELOP, UserRole.ADMIN})
-    public ResponseEntity<List<RequestDto>> getCallsByUser(@PathVariable String userId) {
+    public ResponseEntity<List<?>> getCallsByUser(
+            @PathVariable String userId,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(service.getCallSummariesByUser(userId, fields));
+        }
+
         List<RequestDto> calls = service.getCallsByUser(userId);
         return ResponseEntity.ok(calls);
     }
@@ -190,17 +254,25 @@ public class RequestControllerImpl {
 
     @GetMapping("/stats/users")
     @RequiresRole({UserRole.ANALYST, UserRole.DEVELOP, UserRole.ADMIN})
-    public ResponseEntity<List<UserTicketMetricsDto>> getUserTicketMetrics() {
-        List<UserTicketMetricsDto> metrics = service.getUserTicketMetrics();
+    public ResponseEntity<List<UserTicketMetricsDto>> getUserTicketMetrics(
+            @RequestParam(required = false) Integer limit) {
+        List<UserTicketMetricsDto> metrics = limit != null
+                ? service.getTopUserTicketMetrics(limit)
+                : service.getUserTicketMetrics();
         return ResponseEntity.ok(metrics);
     }
 
     @GetMapping("/stats/timeline")
     @RequiresRole({UserRole.ANALYST, UserRole.DEVELOP, UserRole.ADMIN})
     public ResponseEntity<List<TimelineStatsDto>> getTimelineStats(
-            @RequestParam(defaultValue = "8") int weeks
+            @RequestParam(defaultValue = "8") int weeks,
+            @RequestParam(defaultValue = "week") String granularity,
+            @RequestParam(required = false) Integer periods
     ) {
-        List<TimelineStatsDto> timeline = service.getTimelineStats(weeks);
+        List<TimelineStatsDto> timeline = service.getTimelineStats(
+                periods != null ? periods : weeks,
+                TimelineGranularity.from(granularity)
+        );
         return ResponseEntity.ok(timeline);
     }
 
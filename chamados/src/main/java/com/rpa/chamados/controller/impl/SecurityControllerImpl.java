@@ -0,0 +1,70 @@
+package com.rpa.chamados.controller.impl;
+
+import com.rpa.chamados.controller.dto.CacheStatsDto;
+import com.rpa.chamados.domain.model.enums.UserRole;
+import com.rpa.chamados.security.CacheStats;
+import com.rpa.chamados.security.UserRoleCache;
+import com.rpa.chamados.security.VerifiedTokenCache;
+import com.rpa.chamados.security.annotations.RequiresRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1/api/security")
+public class SecurityControllerImpl {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserRoleCache userRoleCache;
+
+    public SecurityControllerImpl(VerifiedTokenCache verifiedTokenCache, UserRoleCache userRoleCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.userRoleCache = userRoleCache;
+    }
+
+    @GetMapping("/caches")
+    @RequiresRole(UserRole.ADMIN)
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        List<CacheStatsDto> stats = List.of(
+            toDto("verified-tokens", verifiedTokenCache.stats()),
+            toDto("user-roles", userRoleCache.stats())
+        );
+
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Descarta os papéis em cache, de um usuário ou de todos. Necessário quando o papel
+     * é alterado diretamente no banco.
+     */
+    @DeleteMapping("/caches/user-roles")
+    @RequiresRole(UserRole.ADMIN)
+    public ResponseEntity<Void> invalidateUserRoles(@RequestParam(required = false) String email) {
+        if (email != null && !email.isBlank()) {
+            userRoleCache.invalidate(email);
+        } else {
+            userRoleCache.clear();
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    private CacheStatsDto toDto(String name, CacheStats stats) {
+        return new CacheStatsDto(
+            name,
+            stats.size(),
+            stats.maxSize(),
+            stats.hits(),
+            stats.misses(),
+            stats.evictions(),
+            stats.hitRatio()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.rpa.chamados.controller.impl;
 
 import com.rpa.chamados.controller.dto.CreateTrackingRequest;
+import com.rpa.chamados.controller.dto.DemandHoursDto;
 import com.rpa.chamados.controller.dto.GetAllTrackingsResponse;
 import com.rpa.chamados.controller.dto.TrackingDto;
 import com.rpa.chamados.controller.dto.UpdateTrackingRequest;
@@ -14,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -108,6 +110,25 @@ public class TrackingControllerImpl {
         return ResponseEntity.ok(trackings);
     }
 
+    @GetMapping("/total-hours")
+    public ResponseEntity<List<DemandHoursDto>> getTotalHoursByDemands(
+            @RequestParam List<Long> demandIds
+    ) {
+        log.info("Fetching total hours for {} demands", demandIds.size());
+        List<DemandHoursDto> totals = service.getTotalHoursByDemandIds(demandIds);
+
+        return ResponseEntity.ok(totals);
+    }
+
+    @PostMapping("/total-hours/rebuild")
+    @RequiresRole(UserRole.ADMIN)
+    public ResponseEntity<Map<String, Integer>> rebuildTotalHours() {
+        log.info("Rebuilding demand hours on request");
+        int entries = service.rebuildDemandHours();
+
+        return ResponseEntity.ok(Map.of("entries", entries));
+    }
+
     @GetMapping("/demand/{demandId}/total-hours")
     public ResponseEntity<Double> getTotalHoursByDemand(
             @PathVariable Long demandId
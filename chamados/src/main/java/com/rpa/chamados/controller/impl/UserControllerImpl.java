@@ -9,8 +9,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -28,10 +32,48 @@ public class UserControllerImpl {
         this.authenticationService = authenticationService;
     }
 
+    /**
+     * Lista completa de usuários como array JSON, escrita à medida que as linhas são lidas.
+     * Com If-None-Match igual à versão atual responde 304 sem consultar o banco.
+     */
     @GetMapping("/respondents")
-    public ResponseEntity<List<SubmitterInfoDto>> getFormRespondents() {
-        List<SubmitterInfoDto> respondents = userService.getFormRespondents();
-        return ResponseEntity.ok(respondents);
+    public ResponseEntity<StreamingResponseBody> getFormRespondents(WebRequest webRequest) {
+        String etag = userService.getFormRespondentsVersion();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        StreamingResponseBody body = userService::writeFormRespondents;
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping("/respondents/page")
+    public ResponseEntity<Map<String, Object>> getFormRespondentsPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int limit,
+            WebRequest webRequest
+    ) {
+        String etag = userService.getFormRespondentsVersion() + "-" + page + "-" + limit;
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        Page<SubmitterInfoDto> results = userService.getFormRespondents(PageRequest.of(page, limit));
+        Map<String, Object> response = Map.of(
+            "users", results.getContent(),
+            "total", results.getTotalElements(),
+            "page", results.getNumber(),
+            "totalPages", results.getTotalPages()
+        );
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
 
     @GetMapping("/respondents/{id}")
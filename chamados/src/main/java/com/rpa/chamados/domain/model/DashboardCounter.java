@@ -0,0 +1,39 @@
+package com.rpa.chamados.domain.model;
+
+import com.rpa.chamados.domain.model.enums.CounterDimension;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Setter
+@Getter
+@Table(
+    name = "dashboard_counters",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"dimension", "dimension_key"})
+)
+public class DashboardCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CounterDimension dimension;
+
+    @Column(nullable = false)
+    private String dimensionKey;
+
+    @Column(nullable = false)
+    private Long total;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+}
@@ -15,11 +15,44 @@ import java.time.LocalDateTime;
 @Entity
 @Setter
 @Getter
-@Table(name = "demands")
+@Table(
+    name = "demands",
+    indexes = {
+        @Index(name = "idx_demands_status_id", columnList = "status, id"),
+        @Index(name = "idx_demands_type_id", columnList = "type, id"),
+        @Index(name = "idx_demands_analyst_id", columnList = "analyst_id, id"),
+        @Index(name = "idx_demands_focal_point_id", columnList = "focal_point_id, id"),
+        @Index(name = "idx_demands_project_id", columnList = "project_id, id"),
+        @Index(name = "idx_demands_robot_id", columnList = "demand_id, id"),
+        @Index(name = "idx_demands_client_id", columnList = "client, id"),
+        @Index(name = "idx_demands_service_id", columnList = "service, id")
+    }
+)
+@NamedEntityGraph(
+    name = Demand.WITH_RELATIONS,
+    attributeNodes = {
+        @NamedAttributeNode("focalPoint"),
+        @NamedAttributeNode("analyst"),
+        @NamedAttributeNode("robot"),
+        @NamedAttributeNode(value = "project", subgraph = "project")
+    },
+    subgraphs = @NamedSubgraph(name = "project", attributeNodes = @NamedAttributeNode("client"))
+)
 public class Demand {
 
+    /**
+     * Plano de busca das listagens: ponto focal, analista, robô, projeto e cliente do projeto
+     * vêm na mesma consulta da demanda, pois todos são exibidos no {@code DemandDto}.
+     */
+    public static final String WITH_RELATIONS = "Demand.withRelations";
+
+    /**
+     * Sequência com alocação em blocos: o id é conhecido antes do insert, o que permite ao
+     * Hibernate agrupar os inserts em lotes JDBC (com IDENTITY cada insert sai sozinho).
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "demands_seq")
+    @SequenceGenerator(name = "demands_seq", sequenceName = "demands_seq", allocationSize = 50)
     private Long id;
 
     private String name;
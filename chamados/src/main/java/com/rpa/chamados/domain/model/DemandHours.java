@@ -0,0 +1,42 @@
+package com.rpa.chamados.domain.model;
+
+import com.rpa.chamados.domain.model.enums.Nature;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Total de horas apontadas por demanda e natureza, mantido pelos apontamentos de tracking.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Setter
+@Getter
+@Table(
+    name = "demand_hours",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"demand_id", "nature"})
+)
+public class DemandHours {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "demand_id", nullable = false)
+    private Long demandId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Nature nature;
+
+    @Column(nullable = false)
+    private Double hours;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+}
@@ -4,6 +4,8 @@ import com.rpa.chamados.domain.model.enums.ServiceType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,10 +16,20 @@ import java.util.UUID;
 @AllArgsConstructor
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "type", discriminatorType = DiscriminatorType.STRING)
-@Table(name = "requests")
+@Table(
+    name = "requests",
+    indexes = @Index(name = "idx_requests_created_at", columnList = "created_at, id")
+)
+@NamedEntityGraph(name = Request.WITH_SUBMITTER, attributeNodes = @NamedAttributeNode("user"))
 @Entity
 public abstract class Request {
 
+    /**
+     * Plano de busca para listagens que exibem o solicitante. Consultas de estatística
+     * ou que só precisam das colunas da solicitação não carregam o usuário.
+     */
+    public static final String WITH_SUBMITTER = "Request.withSubmitter";
+
     public Request() {
     }
 
@@ -39,7 +51,9 @@ public abstract class Request {
 
     private String celula;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -4,6 +4,7 @@ import com.rpa.chamados.domain.model.enums.ServiceType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,12 +29,14 @@ public class SustentacaoRequest extends Request{
     private String servidorAutomacao;
 
     @ElementCollection
+    @BatchSize(size = 200)
     @CollectionTable(name = "request_evidencias_files", joinColumns = @JoinColumn(name = "request_id"))
     @Column(name = "file_name")
     private List<String> evidenciasFiles;
 
 
     @ElementCollection
+    @BatchSize(size = 200)
     @CollectionTable(name = "request_documentacao_files", joinColumns = @JoinColumn(name = "request_id"))
     @Column(name = "file_name")
     private List<String> documentacaoFiles;
@@ -1,6 +1,7 @@
 package com.rpa.chamados.domain.model;
 
 import com.rpa.chamados.domain.model.enums.UserRole;
+import com.rpa.chamados.repository.UserChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -12,7 +13,12 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "users")
+@Table(
+    name = "users",
+    indexes = @Index(name = "idx_users_department_company_active_joined",
+                     columnList = "department, company, is_active, joined_at")
+)
+@EntityListeners(UserChangeListener.class)
 @Entity
 public class User {
 
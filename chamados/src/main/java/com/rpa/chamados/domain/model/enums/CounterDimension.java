@@ -0,0 +1,12 @@
+package com.rpa.chamados.domain.model.enums;
+
+public enum CounterDimension {
+
+    TOTAL,
+    SERVICE_TYPE,
+    CELULA,
+    DEPARTMENT,
+    TECHNOLOGY,
+    WEEK
+
+}
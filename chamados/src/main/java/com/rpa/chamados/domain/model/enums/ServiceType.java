@@ -1,9 +1,51 @@
 package com.rpa.chamados.domain.model.enums;
 
+import com.rpa.chamados.domain.model.MelhoriaRequest;
+import com.rpa.chamados.domain.model.NovoProjetoRequest;
+import com.rpa.chamados.domain.model.Request;
+import com.rpa.chamados.domain.model.SustentacaoRequest;
+
 public enum ServiceType {
 
     MELHORIA,
     SUSTENTACAO,
-    NOVO_PROJETO
+    NOVO_PROJETO;
+
+    /**
+     * Tipo correspondente à classe devolvida por {@code TYPE(r)} nas consultas JPQL.
+     */
+    public static ServiceType of(Class<?> requestType) {
+        if (MelhoriaRequest.class.equals(requestType)) {
+            return MELHORIA;
+        }
+        if (SustentacaoRequest.class.equals(requestType)) {
+            return SUSTENTACAO;
+        }
+        if (NovoProjetoRequest.class.equals(requestType)) {
+            return NOVO_PROJETO;
+        }
+        return null;
+    }
+
+    public Class<? extends Request> requestType() {
+        return switch (this) {
+            case MELHORIA -> MelhoriaRequest.class;
+            case SUSTENTACAO -> SustentacaoRequest.class;
+            case NOVO_PROJETO -> NovoProjetoRequest.class;
+        };
+    }
+
+    /**
+     * Aceita o nome do enum ou o formato usado na URL, como {@code novo-projeto}.
+     */
+    public static ServiceType from(String value) {
+        String normalized = value.trim().toUpperCase().replace("-", "_");
+        for (ServiceType serviceType : values()) {
+            if (serviceType.name().equals(normalized)) {
+                return serviceType;
+            }
+        }
+        throw new IllegalArgumentException("Tipo de serviço inválido: " + value);
+    }
 
 }
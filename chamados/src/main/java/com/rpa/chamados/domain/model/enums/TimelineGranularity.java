@@ -0,0 +1,18 @@
+package com.rpa.chamados.domain.model.enums;
+
+public enum TimelineGranularity {
+
+    DAY,
+    WEEK,
+    MONTH;
+
+    public static TimelineGranularity from(String value) {
+        for (TimelineGranularity granularity : values()) {
+            if (granularity.name().equalsIgnoreCase(value)) {
+                return granularity;
+            }
+        }
+        throw new IllegalArgumentException("Granularidade inválida: " + value + ". Use day, week ou month");
+    }
+
+}
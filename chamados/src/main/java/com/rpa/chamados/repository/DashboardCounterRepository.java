@@ -0,0 +1,32 @@
+package com.rpa.chamados.repository;
+
+import com.rpa.chamados.domain.model.DashboardCounter;
+import com.rpa.chamados.domain.model.enums.CounterDimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, Long> {
+
+    @Modifying
+    @Query("UPDATE DashboardCounter c SET c.total = c.total + :delta, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.dimension = :dimension AND c.dimensionKey = :dimensionKey")
+    int increment(@Param("dimension") CounterDimension dimension,
+                  @Param("dimensionKey") String dimensionKey,
+                  @Param("delta") long delta);
+
+    @Modifying
+    @Query("INSERT INTO DashboardCounter (dimension, dimensionKey, total, updatedAt) " +
+           "VALUES (:dimension, :dimensionKey, :total, CURRENT_TIMESTAMP)")
+    int insert(@Param("dimension") CounterDimension dimension,
+               @Param("dimensionKey") String dimensionKey,
+               @Param("total") long total);
+
+    @Query("SELECT c.dimension, c.dimensionKey, c.total FROM DashboardCounter c")
+    List<Object[]> findAllTotals();
+}
@@ -0,0 +1,33 @@
+package com.rpa.chamados.repository;
+
+import com.rpa.chamados.domain.model.DemandHours;
+import com.rpa.chamados.domain.model.enums.Nature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DemandHoursRepository extends JpaRepository<DemandHours, Long> {
+
+    @Modifying
+    @Query("UPDATE DemandHours h SET h.hours = h.hours + :delta, h.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE h.demandId = :demandId AND h.nature = :nature")
+    int increment(@Param("demandId") Long demandId,
+                  @Param("nature") Nature nature,
+                  @Param("delta") double delta);
+
+    @Modifying
+    @Query("INSERT INTO DemandHours (demandId, nature, hours, updatedAt) " +
+           "VALUES (:demandId, :nature, :hours, CURRENT_TIMESTAMP)")
+    int insert(@Param("demandId") Long demandId,
+               @Param("nature") Nature nature,
+               @Param("hours") double hours);
+
+    @Query("SELECT h.demandId, h.nature, h.hours FROM DemandHours h WHERE h.demandId IN :demandIds")
+    List<Object[]> findHoursByDemandIds(@Param("demandIds") Collection<Long> demandIds);
+}
@@ -2,17 +2,27 @@ package com.rpa.chamados.repository;
 
 import com.rpa.chamados.domain.model.Demand;
 import com.rpa.chamados.domain.model.enums.DemandStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface DemandRepository extends JpaRepository<Demand, Long> {
+public interface DemandRepository extends JpaRepository<Demand, Long>, JpaSpecificationExecutor<Demand> {
+
+    @Override
+    @EntityGraph(Demand.WITH_RELATIONS)
+    List<Demand> findAll();
+
+    @EntityGraph(Demand.WITH_RELATIONS)
+    Optional<Demand> findWithRelationsById(Long id);
 
     Optional<Demand> findByName(String name);
 
@@ -20,27 +30,57 @@ public interface DemandRepository extends JpaRepository<Demand, Long> {
 
     boolean existsByNameAndIdNot(String name, Long id);
 
+    @Query("SELECT d.name FROM Demand d WHERE d.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    @EntityGraph(Demand.WITH_RELATIONS)
     List<Demand> findByStatus(DemandStatus status);
 
+    @EntityGraph(Demand.WITH_RELATIONS)
     @Query("SELECT d FROM Demand d WHERE d.analyst.id = :analystId")
     List<Demand> findByAnalystId(@Param("analystId") UUID analystId);
 
+    @EntityGraph(Demand.WITH_RELATIONS)
     @Query("SELECT d FROM Demand d WHERE d.focalPoint.id = :focalPointId")
     List<Demand> findByFocalPointId(@Param("focalPointId") UUID focalPointId);
 
+    @EntityGraph(Demand.WITH_RELATIONS)
     @Query("SELECT d FROM Demand d WHERE d.project.id = :projectId")
     List<Demand> findByProjectId(@Param("projectId") Long projectId);
 
+    @EntityGraph(Demand.WITH_RELATIONS)
     @Query("SELECT d FROM Demand d WHERE d.type = :type")
     List<Demand> findByType(@Param("type") String type);
 
+    @EntityGraph(Demand.WITH_RELATIONS)
     @Query("SELECT d FROM Demand d WHERE d.project.client.id = :clientId")
     List<Demand> findByClientId(@Param("clientId") Long clientId);
 
+    @EntityGraph(Demand.WITH_RELATIONS)
     @Query("SELECT d FROM Demand d WHERE d.robot.id = :robotId")
     List<Demand> findByRobotId(@Param("robotId") Long robotId);
 
+    @EntityGraph(Demand.WITH_RELATIONS)
     List<Demand> findByClient(Long client);
 
+    @EntityGraph(Demand.WITH_RELATIONS)
     List<Demand> findByService(Long service);
-}
\ No newline at end of file
+
+    /**
+     * Valida numa só consulta as referências de uma demanda. A linha traz quantos registros
+     * existem para projeto, ponto focal, analista e robô, e quantas outras demandas
+     * (id diferente de {@code excludeId}) já usam o nome.
+     */
+    @Query("SELECT " +
+           "(SELECT COUNT(p) FROM Project p WHERE p.id = :projectId), " +
+           "(SELECT COUNT(f) FROM User f WHERE f.id = :focalPointId), " +
+           "(SELECT COUNT(a) FROM User a WHERE a.id = :analystId), " +
+           "(SELECT COUNT(r) FROM Robot r WHERE r.id = :robotId), " +
+           "(SELECT COUNT(d) FROM Demand d WHERE d.name = :name AND d.id <> :excludeId)")
+    List<Object[]> checkReferences(@Param("projectId") Long projectId,
+                                   @Param("focalPointId") UUID focalPointId,
+                                   @Param("analystId") UUID analystId,
+                                   @Param("robotId") Long robotId,
+                                   @Param("name") String name,
+                                   @Param("excludeId") Long excludeId);
+}
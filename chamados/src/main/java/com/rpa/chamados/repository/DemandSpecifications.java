@@ -0,0 +1,84 @@
+package com.rpa.chamados.repository;
+
+import com.rpa.chamados.domain.model.Demand;
+import com.rpa.chamados.domain.model.enums.DemandStatus;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+/**
+ * Filtros da consulta de demandas. Cada filtro nulo é ignorado, então a consulta só leva
+ * os predicados informados e pode usar o índice composto da coluna filtrada com o id.
+ */
+public final class DemandSpecifications {
+
+    private DemandSpecifications() {
+    }
+
+    public static Specification<Demand> hasStatus(DemandStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Demand> hasType(ServiceType type) {
+        return type == null ? null : (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Demand> hasAnalyst(UUID analystId) {
+        return analystId == null ? null : (root, query, cb) -> cb.equal(root.get("analyst").get("id"), analystId);
+    }
+
+    public static Specification<Demand> hasFocalPoint(UUID focalPointId) {
+        return focalPointId == null
+                ? null
+                : (root, query, cb) -> cb.equal(root.get("focalPoint").get("id"), focalPointId);
+    }
+
+    public static Specification<Demand> hasProject(Long projectId) {
+        return projectId == null ? null : (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Demand> hasProjectClient(Long clientId) {
+        return clientId == null
+                ? null
+                : (root, query, cb) -> cb.equal(root.get("project").get("client").get("id"), clientId);
+    }
+
+    public static Specification<Demand> hasRobot(Long robotId) {
+        return robotId == null ? null : (root, query, cb) -> cb.equal(root.get("robot").get("id"), robotId);
+    }
+
+    public static Specification<Demand> hasClient(Long client) {
+        return client == null ? null : (root, query, cb) -> cb.equal(root.get("client"), client);
+    }
+
+    public static Specification<Demand> hasService(Long service) {
+        return service == null ? null : (root, query, cb) -> cb.equal(root.get("service"), service);
+    }
+
+    /**
+     * Nome ou descrição da demanda, ou nome do ponto focal, analista, projeto ou robô.
+     */
+    public static Specification<Demand> textContains(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + search.trim().toLowerCase() + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("name")), pattern),
+                cb.like(cb.lower(root.get("description")), pattern),
+                cb.like(cb.lower(root.join("focalPoint", JoinType.LEFT).get("name")), pattern),
+                cb.like(cb.lower(root.join("analyst", JoinType.LEFT).get("name")), pattern),
+                cb.like(cb.lower(root.join("project", JoinType.LEFT).get("name")), pattern),
+                cb.like(cb.lower(root.join("robot", JoinType.LEFT).get("name")), pattern)
+        );
+    }
+
+    /**
+     * Keyset: demandas anteriores à última entregue, na ordem de id decrescente.
+     */
+    public static Specification<Demand> idBefore(Long id) {
+        return id == null ? null : (root, query, cb) -> cb.lessThan(root.get("id"), id);
+    }
+}
@@ -1,23 +1,39 @@
 package com.rpa.chamados.repository;
 
+import com.rpa.chamados.controller.dto.RequestSummaryDto;
 import com.rpa.chamados.domain.model.Request;
 import com.rpa.chamados.domain.model.MelhoriaRequest;
 import com.rpa.chamados.domain.model.SustentacaoRequest;
 import com.rpa.chamados.domain.model.NovoProjetoRequest;
 import com.rpa.chamados.domain.model.enums.ServiceType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface RequestRepository extends JpaRepository<Request, UUID> {
+
+    String SUMMARY_SELECT = "SELECT new com.rpa.chamados.controller.dto.RequestSummaryDto(" +
+           "r.id, TYPE(r), r.description, r.submittedBy, r.celula, r.robot, r.tecnologiaAutomacao, r.empresa, " +
+           "CASE WHEN TYPE(r) = NovoProjetoRequest THEN TREAT(r AS NovoProjetoRequest).roi END, " +
+           "r.createdAt, r.updatedAt, u.id, u.name, u.email, u.phone, u.department, u.company) " +
+           "FROM Request r LEFT JOIN r.user u ";
+
+    String USER_METRICS_SELECT = "SELECT u.id, u.name, u.department, TYPE(r), COUNT(r), MAX(r.createdAt), " +
+           "SUM((r.updatedAt - r.createdAt) BY SECOND) FROM Request r JOIN r.user u ";
     
     @Query("SELECT r FROM Request r WHERE " +
            "((:serviceType = 'MELHORIA' AND TYPE(r) = MelhoriaRequest) OR " +
@@ -25,7 +41,16 @@ public interface RequestRepository extends JpaRepository<Request, UUID> {
            "(:serviceType = 'NOVO_PROJETO' AND TYPE(r) = NovoProjetoRequest))")
     List<Request> findByServiceType(@Param("serviceType") String serviceType);
     
+    @EntityGraph(Request.WITH_SUBMITTER)
     List<Request> findBySubmittedBy(String submittedBy);
+
+    @EntityGraph(Request.WITH_SUBMITTER)
+    List<Request> findByIdIn(Collection<UUID> ids);
+
+    @EntityGraph(Request.WITH_SUBMITTER)
+    List<Request> findByUserId(UUID userId);
+
+    long countByUserId(UUID userId);
     
     List<Request> findByCelula(String celula);
     
@@ -51,6 +76,9 @@ public interface RequestRepository extends JpaRepository<Request, UUID> {
     
     @Query("SELECT DISTINCT r.user.department FROM Request r")
     List<String> findDistinctDepartments();
+
+    @Query("SELECT u.department, COUNT(r) FROM Request r JOIN r.user u WHERE u.department IS NOT NULL GROUP BY u.department")
+    List<Object[]> countByDepartment();
     
     @Query("SELECT r FROM Request r WHERE " +
            "(:search IS NULL OR LOWER(r.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -71,9 +99,177 @@ public interface RequestRepository extends JpaRepository<Request, UUID> {
                                 @Param("technology") String technology,
                                 Pageable pageable);
     
+    /**
+     * Contagens agrupadas por tipo, célula, departamento e tecnologia em uma única consulta.
+     * Cada linha traz: tipo, célula, departamento, tecnologia, total e total criado desde {@code weekAgo}.
+     */
+    @Query("SELECT TYPE(r), r.celula, u.department, r.tecnologiaAutomacao, COUNT(r), " +
+           "SUM(CASE WHEN r.createdAt >= :weekAgo THEN 1 ELSE 0 END) " +
+           "FROM Request r LEFT JOIN r.user u " +
+           "GROUP BY TYPE(r), r.celula, u.department, r.tecnologiaAutomacao")
+    List<Object[]> getCallStatsBreakdown(@Param("weekAgo") LocalDateTime weekAgo);
+
+    @Query("SELECT CAST(r.createdAt AS LocalDate), COUNT(r) FROM Request r GROUP BY CAST(r.createdAt AS LocalDate)")
+    List<Object[]> countByCreationDay();
+
+    /**
+     * Página seguinte a {@code (createdAt, id)} na ordem mais recente primeiro.
+     */
+    @Query("SELECT r FROM Request r LEFT JOIN FETCH r.user " +
+           "WHERE r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Request> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") UUID id,
+                                   Pageable pageable);
+
+    @Query("SELECT r FROM Request r JOIN FETCH r.user WHERE " +
+           "(:search IS NULL OR LOWER(r.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.robot) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.tecnologiaAutomacao) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.empresa) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.user.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.user.department) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:serviceType IS NULL OR " +
+           "((:serviceType = 'MELHORIA' AND TYPE(r) = MelhoriaRequest) OR " +
+           "(:serviceType = 'SUSTENTACAO' AND TYPE(r) = SustentacaoRequest) OR " +
+           "(:serviceType = 'NOVO_PROJETO' AND TYPE(r) = NovoProjetoRequest))) AND " +
+           "(:department IS NULL OR r.user.department = :department) AND " +
+           "(:technology IS NULL OR r.tecnologiaAutomacao = :technology) AND " +
+           "(:cursorCreatedAt IS NULL OR r.createdAt < :cursorCreatedAt OR " +
+           "(r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Request> searchRequestsAfter(@Param("search") String search,
+                                      @Param("serviceType") String serviceType,
+                                      @Param("department") String department,
+                                      @Param("technology") String technology,
+                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") UUID cursorId,
+                                      Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM Request r WHERE " +
+           "(:search IS NULL OR LOWER(r.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.robot) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.tecnologiaAutomacao) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.empresa) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.user.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.user.department) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:serviceType IS NULL OR " +
+           "((:serviceType = 'MELHORIA' AND TYPE(r) = MelhoriaRequest) OR " +
+           "(:serviceType = 'SUSTENTACAO' AND TYPE(r) = SustentacaoRequest) OR " +
+           "(:serviceType = 'NOVO_PROJETO' AND TYPE(r) = NovoProjetoRequest))) AND " +
+           "(:department IS NULL OR r.user.department = :department) AND " +
+           "(:technology IS NULL OR r.tecnologiaAutomacao = :technology)")
+    long countSearchRequests(@Param("search") String search,
+                             @Param("serviceType") String serviceType,
+                             @Param("department") String department,
+                             @Param("technology") String technology);
+
     @Query("SELECT COUNT(r) FROM Request r WHERE r.createdAt >= :weekAgo")
     long countRequestsThisWeek(@Param("weekAgo") LocalDateTime weekAgo);
     
     @Query("SELECT r FROM Request r ORDER BY r.createdAt DESC")
     Page<Request> findAllOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * Últimas solicitações criadas, sem consulta de contagem. Usa o índice em
+     * {@code (created_at, id)} para ler apenas as linhas pedidas.
+     */
+    @Query("SELECT r FROM Request r LEFT JOIN FETCH r.user ORDER BY r.createdAt DESC, r.id DESC")
+    List<Request> findLatest(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RequestSummaryDto> findLatestSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+           "WHERE r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RequestSummaryDto> findLatestSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") UUID id,
+                                                      Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE " +
+           "(:search IS NULL OR LOWER(r.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.robot) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.tecnologiaAutomacao) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.empresa) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.department) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:serviceType IS NULL OR " +
+           "((:serviceType = 'MELHORIA' AND TYPE(r) = MelhoriaRequest) OR " +
+           "(:serviceType = 'SUSTENTACAO' AND TYPE(r) = SustentacaoRequest) OR " +
+           "(:serviceType = 'NOVO_PROJETO' AND TYPE(r) = NovoProjetoRequest))) AND " +
+           "(:department IS NULL OR u.department = :department) AND " +
+           "(:technology IS NULL OR r.tecnologiaAutomacao = :technology) AND " +
+           "(:cursorCreatedAt IS NULL OR r.createdAt < :cursorCreatedAt OR " +
+           "(r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RequestSummaryDto> searchSummariesAfter(@Param("search") String search,
+                                                 @Param("serviceType") String serviceType,
+                                                 @Param("department") String department,
+                                                 @Param("technology") String technology,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorId") UUID cursorId,
+                                                 Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE r.submittedBy = :submittedBy")
+    List<RequestSummaryDto> findSummariesBySubmittedBy(@Param("submittedBy") String submittedBy);
+
+    @Query(SUMMARY_SELECT + "WHERE r.id IN :ids")
+    List<RequestSummaryDto> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Resumos para exportação, lidos por cursor JDBC em lotes de {@code fetchSize}. Deve ser
+     * consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + "WHERE " +
+           "(:search IS NULL OR LOWER(r.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.robot) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.tecnologiaAutomacao) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(r.empresa) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.department) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:serviceType IS NULL OR " +
+           "((:serviceType = 'MELHORIA' AND TYPE(r) = MelhoriaRequest) OR " +
+           "(:serviceType = 'SUSTENTACAO' AND TYPE(r) = SustentacaoRequest) OR " +
+           "(:serviceType = 'NOVO_PROJETO' AND TYPE(r) = NovoProjetoRequest))) AND " +
+           "(:department IS NULL OR u.department = :department) AND " +
+           "(:technology IS NULL OR r.tecnologiaAutomacao = :technology) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    Stream<RequestSummaryDto> streamSummaries(@Param("search") String search,
+                                              @Param("serviceType") String serviceType,
+                                              @Param("department") String department,
+                                              @Param("technology") String technology);
+
+    /**
+     * Contagem por dia, semana ISO (a partir de segunda-feira) ou mês e tipo de solicitação
+     * no intervalo {@code [from, to)}. Cada linha traz: início do período, tipo e total.
+     */
+    @Query("SELECT TRUNC(r.createdAt, DAY), TYPE(r), COUNT(r) FROM Request r " +
+           "WHERE r.createdAt >= :from AND r.createdAt < :to GROUP BY TRUNC(r.createdAt, DAY), TYPE(r)")
+    List<Object[]> countByDayAndType(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT TRUNC(r.createdAt, WEEK), TYPE(r), COUNT(r) FROM Request r " +
+           "WHERE r.createdAt >= :from AND r.createdAt < :to GROUP BY TRUNC(r.createdAt, WEEK), TYPE(r)")
+    List<Object[]> countByWeekAndType(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT TRUNC(r.createdAt, MONTH), TYPE(r), COUNT(r) FROM Request r " +
+           "WHERE r.createdAt >= :from AND r.createdAt < :to GROUP BY TRUNC(r.createdAt, MONTH), TYPE(r)")
+    List<Object[]> countByMonthAndType(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Métricas por solicitante e tipo de solicitação: id, nome e departamento do usuário, tipo,
+     * total, último envio e soma, em segundos, do intervalo entre criação e última atualização.
+     */
+    @Query(USER_METRICS_SELECT + "GROUP BY u.id, u.name, u.department, TYPE(r)")
+    List<Object[]> getUserTicketMetricsByType();
+
+    @Query(USER_METRICS_SELECT + "WHERE u.id IN :userIds GROUP BY u.id, u.name, u.department, TYPE(r)")
+    List<Object[]> getUserTicketMetricsByType(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Solicitantes com mais solicitações, do maior para o menor. O tamanho da página define o top-K.
+     */
+    @Query("SELECT u.id FROM Request r JOIN r.user u GROUP BY u.id ORDER BY COUNT(r) DESC, u.id")
+    List<UUID> findTopSubmitterIds(Pageable pageable);
 }
@@ -5,8 +5,11 @@ import com.rpa.chamados.domain.model.enums.Client;
 import com.rpa.chamados.domain.model.enums.ExecutionType;
 import com.rpa.chamados.domain.model.enums.RobotStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +19,7 @@ public interface RobotRepository extends JpaRepository<Robot, Long> {
     List<Robot> findRobotByClient(Client client);
     List<Robot> findRobotByExecutionType(ExecutionType type);
     List<Robot> findRobotByRobotStatus(RobotStatus robotStatus);
+
+    @Query("SELECT r.id FROM Robot r WHERE r.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,32 @@
+package com.rpa.chamados.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção com as colunas exibidas na listagem de usuários; evita carregar a entidade inteira.
+ */
+public interface SubmitterInfoView {
+
+    UUID getId();
+
+    String getName();
+
+    String getEmail();
+
+    String getPhone();
+
+    String getDepartment();
+
+    String getCompany();
+
+    String getRole();
+
+    Boolean getIsActive();
+
+    Integer getRequestsSubmitted();
+
+    LocalDateTime getLastActivity();
+
+    LocalDateTime getJoinedAt();
+}
@@ -27,9 +27,7 @@ public interface TrackingRepository extends JpaRepository<Tracking, Long> {
     @Query("SELECT t FROM Tracking t WHERE t.submitter.id = :submitterId")
     List<Tracking> findBySubmitterId(@Param("submitterId") UUID submitterId);
 
-    @Query("SELECT SUM(t.hours) FROM Tracking t WHERE t.demand.id = :demandId")
-    Double sumHoursByDemandId(@Param("demandId") Long demandId);
-
-    @Query("SELECT SUM(t.hours) FROM Tracking t WHERE t.demand.id = :demandId AND t.nature = :nature")
-    Double sumHoursByDemandIdAndNature(@Param("demandId") Long demandId, @Param("nature") Nature nature);
+    @Query("SELECT t.demand.id, t.nature, SUM(t.hours) FROM Tracking t " +
+           "WHERE t.demand IS NOT NULL AND t.nature IS NOT NULL GROUP BY t.demand.id, t.nature")
+    List<Object[]> sumHoursByDemandAndNature();
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.rpa.chamados.repository;
+
+import com.rpa.chamados.domain.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Avisa {@link UserListVersion} sempre que um usuário é gravado ou removido.
+ */
+@Component
+public class UserChangeListener {
+
+    private final UserListVersion userListVersion;
+
+    public UserChangeListener(UserListVersion userListVersion) {
+        this.userListVersion = userListVersion;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        userListVersion.changed();
+    }
+}
@@ -0,0 +1,45 @@
+package com.rpa.chamados.repository;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versão da lista de usuários usada como ETag. Muda após o commit de qualquer inclusão,
+ * alteração ou exclusão de {@link com.rpa.chamados.domain.model.User} feita pela JPA,
+ * então o controller responde 304 sem consultar o banco enquanto ela não mudar.
+ * <p>
+ * A versão fica em memória: o prefixo gerado na inicialização invalida ETags de outra
+ * instância ou de antes de um restart. Alterações feitas fora da aplicação não são vistas.
+ */
+@Component
+public class UserListVersion {
+
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong version = new AtomicLong();
+
+    public String current() {
+        return instanceId + "-" + version.get();
+    }
+
+    /**
+     * Incrementa a versão quando a transação corrente fizer commit, ou de imediato fora de uma transação.
+     * Incrementar antes do commit deixaria uma leitura concorrente guardar dados antigos com a ETag nova.
+     */
+    public void changed() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+        });
+    }
+}
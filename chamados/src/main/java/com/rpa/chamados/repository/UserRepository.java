@@ -1,18 +1,26 @@
 package com.rpa.chamados.repository;
 
 import com.rpa.chamados.domain.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
     
     Optional<User> findByEmail(String email);
     
@@ -48,4 +56,34 @@ public interface UserRepository extends JpaRepository<User, UUID> {
         ORDER BY COUNT(r.id) DESC, COUNT(DISTINCT u.id) DESC
         """)
     List<Object[]> getDepartmentStatistics();
-}
\ No newline at end of file
+
+    /**
+     * Totais por departamento em uma única consulta: departamento, usuários, usuários ativos e solicitações.
+     */
+    @Query("""
+        SELECT u.department as department,
+               COUNT(DISTINCT u.id) as totalUsers,
+               COUNT(DISTINCT CASE WHEN u.isActive = true THEN u.id END) as activeUsers,
+               COUNT(r.id) as totalRequests
+        FROM User u
+        LEFT JOIN Request r ON r.user.id = u.id
+        WHERE u.department IS NOT NULL
+        GROUP BY u.department
+        ORDER BY u.department
+        """)
+    List<Object[]> getDepartmentAnalytics();
+
+    Page<SubmitterInfoView> findAllProjectedBy(Pageable pageable);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Todos os usuários, lidos por cursor para serem escritos na resposta sem montar a lista em memória.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email, u.phone AS phone, u.department AS department, " +
+           "u.company AS company, u.role AS role, u.isActive AS isActive, u.requestsSubmitted AS requestsSubmitted, " +
+           "u.lastActivity AS lastActivity, u.joinedAt AS joinedAt FROM User u ORDER BY u.name, u.id")
+    Stream<SubmitterInfoView> streamAllBy();
+}
@@ -0,0 +1,73 @@
+package com.rpa.chamados.repository;
+
+import com.rpa.chamados.domain.model.Request;
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros da busca de usuários. Cada filtro nulo é ignorado, então a consulta final só
+ * contém os predicados que foram de fato informados.
+ */
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> nameOrEmailContains(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + search.trim().toLowerCase() + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("name")), pattern),
+                cb.like(cb.lower(root.get("email")), pattern)
+        );
+    }
+
+    public static Specification<User> hasDepartment(String department) {
+        return department == null || department.isBlank()
+                ? null
+                : (root, query, cb) -> cb.equal(root.get("department"), department);
+    }
+
+    public static Specification<User> hasCompany(String company) {
+        return company == null || company.isBlank()
+                ? null
+                : (root, query, cb) -> cb.equal(root.get("company"), company);
+    }
+
+    public static Specification<User> isActive(Boolean isActive) {
+        return isActive == null ? null : (root, query, cb) -> cb.equal(root.get("isActive"), isActive);
+    }
+
+    public static Specification<User> joinedFrom(LocalDateTime from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("joinedAt"), from);
+    }
+
+    public static Specification<User> joinedBefore(LocalDateTime to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThan(root.get("joinedAt"), to);
+    }
+
+    /**
+     * Usuários com ao menos uma solicitação do tipo informado.
+     */
+    public static Specification<User> submittedServiceType(ServiceType serviceType) {
+        if (serviceType == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Integer> requests = query.subquery(Integer.class);
+            Root<Request> request = requests.from(Request.class);
+            requests.select(cb.literal(1)).where(
+                    cb.equal(request.get("user"), root),
+                    cb.equal(request.type(), serviceType.requestType())
+            );
+            return cb.exists(requests);
+        };
+    }
+}
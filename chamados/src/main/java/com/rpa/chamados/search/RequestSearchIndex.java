@@ -0,0 +1,378 @@
+package com.rpa.chamados.search;
+
+import com.rpa.chamados.controller.dto.KeysetCursor;
+import com.rpa.chamados.domain.model.Request;
+import com.rpa.chamados.repository.RequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Índice invertido (Lucene, em disco) das solicitações. Tokeniza ignorando acentos e
+ * caixa, aceita prefixos e devolve os ids ordenados por relevância. As alterações
+ * feitas pelo {@code RequestServiceImpl} só chegam ao índice depois do commit.
+ */
+@Slf4j
+@Component
+public class RequestSearchIndex implements DisposableBean {
+
+    static final String ID = "id";
+    static final String ID_SORT = "id_sort";
+    static final String SERVICE_TYPE = "service_type";
+    static final String DEPARTMENT = "department_exact";
+    static final String TECHNOLOGY = "technology_exact";
+
+    private static final Map<String, Float> TEXT_FIELDS = Map.of(
+        "description", 1.0f,
+        "robot", 2.0f,
+        "tecnologia", 1.5f,
+        "empresa", 1.5f,
+        "user_name", 1.5f,
+        "department", 1.0f
+    );
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final RequestRepository requestRepository;
+    private final boolean rebuildOnStartup;
+    private final Analyzer analyzer = new FoldingAnalyzer();
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    /**
+     * Serializa a reconstrução com as alterações feitas após o commit. Sem isso, uma alteração
+     * aplicada durante a leitura em lotes duplicaria o documento (o lote o adiciona de novo) e
+     * uma remoção feita depois da leitura da linha deixaria um documento fantasma.
+     */
+    private final Object writeLock = new Object();
+
+    public RequestSearchIndex(RequestRepository requestRepository,
+                              @Value("${app.search.index-dir:${java.io.tmpdir}/chamados/search-index-${server.port:8080}}") String indexDir,
+                              @Value("${app.search.rebuild-on-startup:true}") boolean rebuildOnStartup) throws IOException {
+        this.requestRepository = requestRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+
+        Path path = Path.of(indexDir);
+        Files.createDirectories(path);
+        this.directory = FSDirectory.open(path);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+
+        log.info("Request search index opened at {} with {} documents", path.toAbsolutePath(), writer.getDocStats().numDocs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() {
+        long indexed = writer.getDocStats().numDocs;
+        long stored = requestRepository.count();
+
+        if (rebuildOnStartup || indexed != stored) {
+            log.info("Rebuilding request search index ({} indexed, {} in database)", indexed, stored);
+            rebuild();
+        }
+    }
+
+    /**
+     * Reindexa todas as solicitações, lendo o banco em lotes pela ordem (createdAt, id).
+     * Alterações confirmadas no meio esperam o fim e são aplicadas por cima.
+     */
+    public long rebuild() {
+        synchronized (writeLock) {
+            return rebuildLocked();
+        }
+    }
+
+    private long rebuildLocked() {
+        try {
+            writer.deleteAll();
+
+            long indexed = 0;
+            List<Request> batch = requestRepository.findLatest(PageRequest.of(0, REBUILD_BATCH_SIZE));
+            while (!batch.isEmpty()) {
+                for (Request request : batch) {
+                    writer.addDocument(toDocument(request));
+                }
+                indexed += batch.size();
+
+                Request last = batch.getLast();
+                batch = batch.size() < REBUILD_BATCH_SIZE
+                    ? List.of()
+                    : requestRepository.findLatestBefore(last.getCreatedAt(), last.getId(), PageRequest.of(0, REBUILD_BATCH_SIZE));
+            }
+
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            log.info("Request search index rebuilt with {} documents", indexed);
+            return indexed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao reconstruir o índice de busca", e);
+        }
+    }
+
+    public void indexAfterCommit(Request request) {
+        Document document = toDocument(request);
+        Term idTerm = new Term(ID, request.getId().toString());
+        afterCommit(() -> {
+            writer.updateDocument(idTerm, document);
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    /**
+     * Reindexa as solicitações de um usuário cujo nome ou departamento mudou, já que esses
+     * campos são copiados para o documento de cada solicitação. Os documentos são montados
+     * na transação atual, com os dados novos do usuário, e gravados após o commit.
+     */
+    public void reindexUserAfterCommit(UUID userId) {
+        List<Request> requests = requestRepository.findByUserId(userId);
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        Map<Term, Document> documents = new LinkedHashMap<>();
+        for (Request request : requests) {
+            documents.put(new Term(ID, request.getId().toString()), toDocument(request));
+        }
+        afterCommit(() -> {
+            for (Map.Entry<Term, Document> entry : documents.entrySet()) {
+                writer.updateDocument(entry.getKey(), entry.getValue());
+            }
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    public void removeAfterCommit(UUID requestId) {
+        Term idTerm = new Term(ID, requestId.toString());
+        afterCommit(() -> {
+            writer.deleteDocuments(idTerm);
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    /**
+     * Busca ordenada por relevância e, em empate, pelo id. O cursor carrega a pontuação
+     * e o id do último resultado, como na paginação keyset por data.
+     */
+    public SearchPage search(String text, String serviceType, String department, String technology,
+                             KeysetCursor after, int limit, boolean includeTotal) throws IOException {
+        List<String> tokens = analyze(text);
+        if (tokens.isEmpty()) {
+            return new SearchPage(List.of(), includeTotal ? 0L : null);
+        }
+
+        Query query = buildQuery(tokens, serviceType, department, technology);
+        Sort sort = new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.STRING));
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int maxDoc = searcher.getIndexReader().maxDoc();
+            TopDocs topDocs;
+            if (after == null || maxDoc == 0) {
+                topDocs = searcher.search(query, limit, sort, true);
+            } else {
+                // Os ids são únicos, então o doc do cursor só desempata contra o próprio documento
+                FieldDoc position = new FieldDoc(maxDoc - 1, Float.NaN,
+                    new Object[]{Float.parseFloat(after.sortValue()), new BytesRef(after.id())});
+                topDocs = searcher.searchAfter(position, query, limit, sort, true);
+            }
+
+            List<SearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                String id = searcher.storedFields().document(scoreDoc.doc).get(ID);
+                hits.add(new SearchHit(UUID.fromString(id), scoreDoc.score));
+            }
+
+            Long total = includeTotal ? (long) searcher.count(query) : null;
+            return new SearchPage(hits, total);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:5000}")
+    public void commitPendingChanges() {
+        // Não grava no disco um índice reconstruído pela metade
+        synchronized (writeLock) {
+            if (!writer.hasUncommittedChanges()) {
+                return;
+            }
+            try {
+                writer.commit();
+            } catch (IOException e) {
+                log.error("Failed to commit request search index: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream("description", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private Query buildQuery(List<String> tokens, String serviceType, String department, String technology) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+
+        for (String token : tokens) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            TEXT_FIELDS.forEach((field, boost) -> {
+                anyField.add(new BoostQuery(new TermQuery(new Term(field, token)), boost * 2), BooleanClause.Occur.SHOULD);
+                if (token.length() >= MIN_PREFIX_LENGTH) {
+                    anyField.add(new BoostQuery(new PrefixQuery(new Term(field, token)), boost), BooleanClause.Occur.SHOULD);
+                }
+            });
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+
+        if (serviceType != null) {
+            query.add(new TermQuery(new Term(SERVICE_TYPE, serviceType)), BooleanClause.Occur.FILTER);
+        }
+        if (department != null) {
+            query.add(new TermQuery(new Term(DEPARTMENT, department)), BooleanClause.Occur.FILTER);
+        }
+        if (technology != null) {
+            query.add(new TermQuery(new Term(TECHNOLOGY, technology)), BooleanClause.Occur.FILTER);
+        }
+
+        return query.build();
+    }
+
+    private Document toDocument(Request request) {
+        String id = request.getId().toString();
+        Document document = new Document();
+        document.add(new StringField(ID, id, Field.Store.YES));
+        document.add(new SortedDocValuesField(ID_SORT, new BytesRef(id)));
+        document.add(new StringField(SERVICE_TYPE, request.getServiceType().name(), Field.Store.NO));
+
+        addText(document, "description", request.getDescription());
+        addText(document, "robot", request.getRobot());
+        addText(document, "tecnologia", request.getTecnologiaAutomacao());
+        addText(document, "empresa", request.getEmpresa());
+
+        if (request.getTecnologiaAutomacao() != null) {
+            document.add(new StringField(TECHNOLOGY, request.getTecnologiaAutomacao(), Field.Store.NO));
+        }
+        if (request.getUser() != null) {
+            addText(document, "user_name", request.getUser().getName());
+            addText(document, "department", request.getUser().getDepartment());
+            if (request.getUser().getDepartment() != null) {
+                document.add(new StringField(DEPARTMENT, request.getUser().getDepartment(), Field.Store.NO));
+            }
+        }
+
+        return document;
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private void afterCommit(IndexChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private void apply(IndexChange change) {
+        synchronized (writeLock) {
+            try {
+                change.apply();
+            } catch (IOException e) {
+                log.error("Failed to update request search index, a rebuild will be needed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexChange {
+        void apply() throws IOException;
+    }
+
+    public record SearchHit(UUID id, float score) {
+    }
+
+    public record SearchPage(List<SearchHit> hits, Long total) {
+    }
+
+    /**
+     * Tokenização para português: separa por palavras, converte para minúsculas e remove
+     * acentos, de modo que "automação" e "automacao" gerem o mesmo termo.
+     */
+    private static final class FoldingAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new LowerCaseFilter(tokenizer);
+            stream = new ASCIIFoldingFilter(stream);
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
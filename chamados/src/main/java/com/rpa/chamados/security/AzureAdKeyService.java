@@ -1,10 +1,15 @@
 package com.rpa.chamados.security;
 
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -14,8 +19,12 @@ import java.security.interfaces.RSAPublicKey;
 import java.security.spec.RSAPublicKeySpec;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 @Service
@@ -23,48 +32,113 @@ public class AzureAdKeyService {
     
     @Value("${azure.ad.tenant-id}")
     private String tenantId;
+
+    @Value("${azure.ad.client-id}")
+    private String clientId;
+
+    @Value("${azure.ad.enable-signature-verification:false}")
+    private boolean enableSignatureVerification;
+
+    @Value("${azure.ad.jwks.url:}")
+    private String jwksUrlOverride;
+
+    @Value("${azure.ad.jwks.refresh-interval-ms:3000000}")
+    private long refreshIntervalMs;
+
+    @Value("${azure.ad.jwks.unknown-kid-min-interval-ms:300000}")
+    private long unknownKidMinIntervalMs;
     
+    private static final String AZURE_AD_ISSUER_PREFIX = "https://login.microsoftonline.com/";
     private static final String AZURE_AD_JWKS_URL_TEMPLATE = "https://login.microsoftonline.com/%s/discovery/v2.0/keys";
     private static final String AZURE_AD_COMMON_JWKS_URL = "https://login.microsoftonline.com/common/discovery/v2.0/keys";
+    private static final int JWKS_TIMEOUT_MS = 5000;
     
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final Map<String, RSAPublicKey> keyCache = new ConcurrentHashMap<>();
-    private long lastKeyFetch = 0;
-    private static final long KEY_CACHE_TTL = 3600000; // 1 hour
+    private final Map<String, VerificationKey> keyCache = new ConcurrentHashMap<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicLong refreshAttempts = new AtomicLong();
+    private final AtomicLong lastOnDemandRefresh = new AtomicLong();
+    private volatile long lastKeyFetch = 0;
 
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public Algorithm getAlgorithmForKeyId(String keyId) {
-        try {
-            RSAPublicKey publicKey = getPublicKey(keyId);
-            if (publicKey == null) {
-                throw new RuntimeException("Public key not found for key ID: " + keyId);
-            }
-            return Algorithm.RSA256(publicKey, null);
-        } catch (Exception e) {
-            log.error("Failed to create algorithm for key ID {}: {}", keyId, e.getMessage());
-            throw new RuntimeException("Failed to create JWT verification algorithm", e);
+    public AzureAdKeyService(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(JWKS_TIMEOUT_MS);
+        requestFactory.setReadTimeout(JWKS_TIMEOUT_MS);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Devolve o verificador pronto (e thread-safe) para o {@code kid} informado. Os
+     * verificadores só são reconstruídos quando o JWKS muda.
+     */
+    public JWTVerifier getVerifierForKeyId(String keyId) {
+        VerificationKey key = getVerificationKey(keyId);
+        if (key == null) {
+            log.error("Public key not found for key ID: {}", keyId);
+            throw new JWTVerificationException("Public key not found for key ID: " + keyId);
         }
+        return key.verifier();
     }
 
-    private RSAPublicKey getPublicKey(String keyId) {
-        if (keyCache.containsKey(keyId) && !isCacheExpired()) {
-            return keyCache.get(keyId);
+    /**
+     * Renova o JWKS em segundo plano antes de o conjunto atual expirar. As requisições
+     * continuam sendo atendidas pelas chaves atuais enquanto a renovação acontece.
+     */
+    @Scheduled(
+        initialDelayString = "${azure.ad.jwks.check-initial-delay-ms:0}",
+        fixedDelayString = "${azure.ad.jwks.check-interval-ms:60000}"
+    )
+    public void refreshIfDue() {
+        if (!enableSignatureVerification) {
+            return;
         }
-        
-        if (isCacheExpired() || !keyCache.containsKey(keyId)) {
-            refreshKeys();
+
+        if (keyCache.isEmpty() || System.currentTimeMillis() - lastKeyFetch >= refreshIntervalMs) {
+            refreshKeys(refreshAttempts.get());
+        }
+    }
+
+    private VerificationKey getVerificationKey(String keyId) {
+        VerificationKey key = keyCache.get(keyId);
+        if (key != null) {
+            return key;
+        }
+
+        long observedAttempts = refreshAttempts.get();
+        if (keyCache.isEmpty() || refreshLock.isLocked() || tryAcquireOnDemandRefresh()) {
+            refreshKeys(observedAttempts);
+        } else {
+            log.debug("Skipping JWKS refresh for unknown key ID {} (rate limited)", keyId);
         }
         
         return keyCache.get(keyId);
     }
 
-    private void refreshKeys() {
+    private boolean tryAcquireOnDemandRefresh() {
+        long now = System.currentTimeMillis();
+        long last = lastOnDemandRefresh.get();
+        return now - last >= unknownKidMinIntervalMs && lastOnDemandRefresh.compareAndSet(last, now);
+    }
+
+    /**
+     * Single-flight: só uma thread busca o JWKS por vez. Quem chega enquanto uma busca
+     * está em andamento espera por ela e reaproveita o resultado em vez de buscar de novo.
+     */
+    private void refreshKeys(long observedAttempts) {
+        refreshLock.lock();
         try {
+            if (refreshAttempts.get() != observedAttempts) {
+                return;
+            }
+
             log.debug("Refreshing Azure AD public keys");
             
-            String jwksUrl = String.format(AZURE_AD_JWKS_URL_TEMPLATE, tenantId);
-            JsonNode jwksResponse = fetchJwks(jwksUrl);
+            JsonNode jwksResponse = fetchJwks(resolveJwksUrl());
             
             if (jwksResponse == null) {
                 log.warn("Failed to fetch from tenant-specific endpoint, trying common endpoint");
@@ -76,13 +150,22 @@ public class AzureAdKeyService {
                 lastKeyFetch = System.currentTimeMillis();
                 log.info("Successfully refreshed {} Azure AD public keys", keyCache.size());
             } else {
-                log.error("Failed to fetch Azure AD public keys from any endpoint");
+                log.error("Failed to fetch Azure AD public keys from any endpoint, keeping {} cached keys", keyCache.size());
             }
             
         } catch (Exception e) {
             log.error("Error refreshing Azure AD public keys: {}", e.getMessage());
+        } finally {
+            refreshAttempts.incrementAndGet();
+            refreshLock.unlock();
         }
     }
+
+    private String resolveJwksUrl() {
+        return jwksUrlOverride != null && !jwksUrlOverride.isBlank()
+            ? jwksUrlOverride
+            : String.format(AZURE_AD_JWKS_URL_TEMPLATE, tenantId);
+    }
     
     private JsonNode fetchJwks(String url) {
         try {
@@ -102,7 +185,7 @@ public class AzureAdKeyService {
                 return;
             }
             
-            Map<String, RSAPublicKey> newKeys = new HashMap<>();
+            Map<String, VerificationKey> newKeys = new HashMap<>();
             
             for (JsonNode key : keys) {
                 try {
@@ -117,9 +200,15 @@ public class AzureAdKeyService {
                     
                     String nValue = key.get("n").asText();
                     String eValue = key.get("e").asText();
+
+                    VerificationKey existing = keyCache.get(keyId);
+                    if (existing != null && existing.matches(nValue, eValue)) {
+                        newKeys.put(keyId, existing);
+                        continue;
+                    }
                     
                     RSAPublicKey publicKey = createRSAPublicKey(nValue, eValue);
-                    newKeys.put(keyId, publicKey);
+                    newKeys.put(keyId, new VerificationKey(nValue, eValue, buildVerifier(publicKey)));
                     
                     log.debug("Cached public key: keyId={}, algorithm={}", keyId, algorithm);
                     
@@ -128,8 +217,22 @@ public class AzureAdKeyService {
                 }
             }
             
-            keyCache.clear();
+            if (newKeys.isEmpty()) {
+                log.warn("JWKS response contained no usable signing keys, keeping current key set");
+                return;
+            }
+
+            Set<String> rotatedKeyIds = new HashSet<>();
+            keyCache.forEach((keyId, verificationKey) -> {
+                if (verificationKey != newKeys.get(keyId)) {
+                    rotatedKeyIds.add(keyId);
+                }
+            });
+
             keyCache.putAll(newKeys);
+            keyCache.keySet().retainAll(newKeys.keySet());
+
+            verifiedTokenCache.evictKeyIds(rotatedKeyIds);
             
         } catch (Exception e) {
             log.error("Error parsing JWKS response: {}", e.getMessage());
@@ -149,8 +252,19 @@ public class AzureAdKeyService {
         return (RSAPublicKey) factory.generatePublic(spec);
     }
     
-    private boolean isCacheExpired() {
-        return System.currentTimeMillis() - lastKeyFetch > KEY_CACHE_TTL;
+    private JWTVerifier buildVerifier(RSAPublicKey publicKey) {
+        return JWT.require(Algorithm.RSA256(publicKey, null))
+            .withIssuer(AZURE_AD_ISSUER_PREFIX + tenantId + "/", AZURE_AD_ISSUER_PREFIX + tenantId + "/v2.0") // Support both v1 and v2
+            .withAudience(clientId)
+            .acceptLeeway(60) // Accept 60 seconds clock skew for exp, nbf, iat
+            .build();
+    }
+    
+    private record VerificationKey(String modulus, String exponent, JWTVerifier verifier) {
+
+        boolean matches(String n, String e) {
+            return modulus.equals(n) && exponent.equals(e);
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.rpa.chamados.security;
+
+/**
+ * Fotografia dos contadores de um cache em memória da camada de segurança.
+ */
+public record CacheStats(int size, int maxSize, long hits, long misses, long evictions) {
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -20,7 +20,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
@@ -28,6 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenService jwtTokenService;
     private final UserRepository userRepository;
+    private final UserRoleCache userRoleCache;
 
     @Value("${app.admin.special-email:lhfurquim@stefanini.com}")
     private String specialAdminEmail;
@@ -35,9 +39,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Value("${app.admin.auto-grant.enabled:true}")
     private boolean adminAutoGrantEnabled;
 
-    public JwtAuthenticationFilter(JwtTokenService jwtTokenService, UserRepository userRepository) {
+    @Value("${app.admin.auto-grant.sync-interval-ms:300000}")
+    private long adminSyncIntervalMs;
+
+    private final Map<String, Long> adminSyncedAt = new ConcurrentHashMap<>();
+
+    public JwtAuthenticationFilter(JwtTokenService jwtTokenService,
+                                   UserRepository userRepository,
+                                   UserRoleCache userRoleCache) {
         this.jwtTokenService = jwtTokenService;
         this.userRepository = userRepository;
+        this.userRoleCache = userRoleCache;
     }
 
     @Override
@@ -50,25 +62,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             
             if (StringUtils.hasText(jwt) && SecurityContextHolder.getContext().getAuthentication() == null) {
                 try {
-                    String email = jwtTokenService.extractEmailFromToken(jwt);
-                    String name = jwtTokenService.extractNameFromToken(jwt);
-                    String subject = jwtTokenService.extractSubjectFromToken(jwt);
+                    JwtPrincipal principal = jwtTokenService.authenticate(jwt);
+                    String email = principal.email();
                     
                     if (email != null) {
                         List<SimpleGrantedAuthority> authorities = buildUserAuthorities(email);
 
                         UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
-                                email,
+                                principal,
                                 null,
                                 authorities
                             );
 
                         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
+                        request.setAttribute(JwtPrincipal.REQUEST_ATTRIBUTE, principal);
                         request.setAttribute("user.email", email);
-                        request.setAttribute("user.name", name);
-                        request.setAttribute("user.subject", subject);
+                        request.setAttribute("user.name", principal.displayName());
+                        request.setAttribute("user.subject", principal.subject());
 
                         SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -105,62 +117,73 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             specialAdminEmail.equalsIgnoreCase(email)) {
 
             authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
-            log.info("🔐 Auto-granted ADMIN role for special email: {}", email);
+            log.debug("🔐 Auto-granted ADMIN role for special email: {}", email);
 
-            // Garantir sincronização com banco de dados
-            ensureAdminUserInDatabase(email);
+            // Garantir sincronização com banco de dados (uma vez por janela, não por requisição)
+            syncAdminUserIfDue(email);
             return authorities;
         }
 
-        // Fluxo normal para outros emails
+        // Fluxo normal para outros emails. Sem papel resolvido (usuário desconhecido, sem papel
+        // ou falha no banco) nenhuma authority de papel é adicionada e o @RequiresRole nega o acesso.
         try {
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
-                UserRole userRole = user.getUserRole();
-
-                if (userRole != null) {
-                    authorities.add(new SimpleGrantedAuthority("ROLE_" + userRole.name()));
-                    log.debug("Added role {} for user {}", userRole, email);
-                } else {
-                    log.warn("User {} has no role assigned, defaulting to DEFAULT", email);
-                    authorities.add(new SimpleGrantedAuthority("ROLE_DEFAULT"));
-                }
-            } else {
-                log.warn("User {} not found in database, defaulting to DEFAULT role", email);
-                authorities.add(new SimpleGrantedAuthority("ROLE_DEFAULT"));
+            UserRole userRole = userRoleCache.resolveRole(email);
+            if (userRole != null) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_" + userRole.name()));
+                log.debug("Added role {} for user {}", userRole, email);
             }
         } catch (Exception e) {
             log.error("Error loading user role for {}: {}", email, e.getMessage());
-            authorities.add(new SimpleGrantedAuthority("ROLE_DEFAULT"));
         }
 
         return authorities;
     }
 
-    private void ensureAdminUserInDatabase(String email) {
+    private void syncAdminUserIfDue(String email) {
+        String key = email.toLowerCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+        Long lastSync = adminSyncedAt.get(key);
+
+        if (lastSync != null && (adminSyncIntervalMs <= 0 || now - lastSync < adminSyncIntervalMs)) {
+            return;
+        }
+
+        // Só a thread que conseguir registrar o novo instante faz a sincronização
+        boolean claimed = lastSync == null
+            ? adminSyncedAt.putIfAbsent(key, now) == null
+            : adminSyncedAt.replace(key, lastSync, now);
+
+        if (claimed && !ensureAdminUserInDatabase(email)) {
+            adminSyncedAt.remove(key, now);
+        }
+    }
+
+    private boolean ensureAdminUserInDatabase(String email) {
         try {
             Optional<User> userOpt = userRepository.findByEmail(email);
 
             if (userOpt.isEmpty()) {
                 // Criar usuário ADMIN se não existir
-                createAdminUser(email);
+                return createAdminUser(email);
             } else {
                 User user = userOpt.get();
                 if (user.getUserRole() != UserRole.ADMIN) {
                     // Atualizar role para ADMIN se necessário
                     user.setUserRole(UserRole.ADMIN);
                     userRepository.save(user);
+                    userRoleCache.invalidate(email);
                     log.info("🔄 Updated role to ADMIN for special email: {}", email);
                 }
+                return true;
             }
         } catch (Exception e) {
             log.warn("⚠️ Failed to sync admin user in database for {}: {}", email, e.getMessage());
             // Não falha - role ADMIN ainda é concedida via authorities
+            return false;
         }
     }
 
-    private void createAdminUser(String email) {
+    private boolean createAdminUser(String email) {
         try {
             User adminUser = new User();
             adminUser.setEmail(email);
@@ -171,9 +194,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             adminUser.setIsActive(true);
 
             userRepository.save(adminUser);
+            userRoleCache.invalidate(email);
             log.info("✅ Created ADMIN user for special email: {}", email);
+            return true;
         } catch (Exception e) {
             log.error("❌ Failed to create admin user for {}: {}", email, e.getMessage());
+            return false;
         }
     }
 
@@ -0,0 +1,33 @@
+package com.rpa.chamados.security;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Identidade extraída de um token já validado. Produzida uma única vez por requisição
+ * pelo {@link JwtTokenService} e reaproveitada pelo filtro, serviços e controllers.
+ */
+public record JwtPrincipal(
+        String token,
+        String subject,
+        String email,
+        String displayName,
+        Instant expiresAt
+) implements Principal {
+
+    public static final String REQUEST_ATTRIBUTE = "user.principal";
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public boolean isIssuedFor(String rawToken) {
+        return token != null && token.equals(rawToken);
+    }
+
+    @Override
+    public String toString() {
+        return "JwtPrincipal[subject=" + subject + ", email=" + email + ", expiresAt=" + expiresAt + "]";
+    }
+}
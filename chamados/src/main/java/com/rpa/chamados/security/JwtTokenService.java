@@ -2,13 +2,14 @@ package com.rpa.chamados.security;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
@@ -27,9 +28,11 @@ public class JwtTokenService {
     private boolean enableSignatureVerification;
     
     private final AzureAdKeyService azureAdKeyService;
+    private final VerifiedTokenCache verifiedTokenCache;
     
-    public JwtTokenService(AzureAdKeyService azureAdKeyService) {
+    public JwtTokenService(AzureAdKeyService azureAdKeyService, VerifiedTokenCache verifiedTokenCache) {
         this.azureAdKeyService = azureAdKeyService;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
     
     private static final String AZURE_AD_ISSUER_PREFIX = "https://login.microsoftonline.com/";
@@ -41,6 +44,11 @@ public class JwtTokenService {
           if (token.startsWith("Bearer ")) {
                 token = token.substring(7);
           }
+
+          DecodedJWT cached = verifiedTokenCache.get(token);
+          if (cached != null) {
+              return cached;
+          }
             
           log.debug("Validating JWT token (signature verification: {})", enableSignatureVerification);
 
@@ -49,6 +57,7 @@ public class JwtTokenService {
                 : decodeWithoutVerification(token);
             
             validateTokenClaims(jwt);
+            verifiedTokenCache.put(token, jwt);
             
             String email = extractEmailFromJWT(jwt);
             log.debug("JWT token validation successful for user: {}", email);
@@ -82,13 +91,7 @@ public class JwtTokenService {
                 throw new JWTVerificationException("JWT token missing key ID (kid) in header");
             }
             
-            Algorithm algorithm = azureAdKeyService.getAlgorithmForKeyId(keyId);
-            
-            JWTVerifier verifier = JWT.require(algorithm)
-                .withIssuer(getExpectedIssuerV1(), getExpectedIssuerV2()) // Support both v1 and v2
-                .withAudience(clientId)
-                .acceptLeeway(60) // Accept 60 seconds clock skew for exp, nbf, iat
-                .build();
+            JWTVerifier verifier = azureAdKeyService.getVerifierForKeyId(keyId);
             
             return verifier.verify(token);
             
@@ -136,18 +139,49 @@ public class JwtTokenService {
         log.debug("Token claims validation successful for subject: {}", jwt.getSubject());
     }
     
-    private String getExpectedIssuerV1() {
-        return AZURE_AD_ISSUER_PREFIX + tenantId + AZURE_AD_ISSUER_V1_SUFFIX;
+    /**
+     * Valida o token uma única vez e devolve a identidade pronta para reuso.
+     */
+    public JwtPrincipal authenticate(String token) {
+        String rawToken = stripBearerPrefix(token);
+        DecodedJWT jwt = validateToken(rawToken);
+
+        Date expiresAt = jwt.getExpiresAt();
+        return new JwtPrincipal(
+            rawToken,
+            jwt.getSubject(),
+            extractEmailFromJWT(jwt),
+            extractNameFromJWT(jwt),
+            expiresAt != null ? expiresAt.toInstant() : null
+        );
     }
-    
-    private String getExpectedIssuerV2() {
-        return AZURE_AD_ISSUER_PREFIX + tenantId + AZURE_AD_ISSUER_V2_SUFFIX;
+
+    /**
+     * Reaproveita o principal já autenticado pelo filtro quando o token é o mesmo da
+     * requisição corrente; caso contrário, valida o token.
+     */
+    public JwtPrincipal resolvePrincipal(String token) {
+        String rawToken = stripBearerPrefix(token);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal
+                && principal.isIssuedFor(rawToken)) {
+            return principal;
+        }
+
+        return authenticate(rawToken);
     }
-    
+
+    private String stripBearerPrefix(String token) {
+        if (token != null && token.startsWith("Bearer ")) {
+            return token.substring(7);
+        }
+        return token;
+    }
+
     public String extractEmailFromToken(String token) {
         try {
-            DecodedJWT jwt = validateToken(token);
-            return extractEmailFromJWT(jwt);
+            return resolvePrincipal(token).email();
         } catch (Exception e) {
             log.error("Error extracting email from token: {}", e.getMessage());
             throw new JwtException("Could not extract email from token", e);
@@ -176,8 +210,7 @@ public class JwtTokenService {
     
     public String extractNameFromToken(String token) {
         try {
-            DecodedJWT jwt = validateToken(token);
-            return extractNameFromJWT(jwt);
+            return resolvePrincipal(token).displayName();
         } catch (Exception e) {
             log.error("Error extracting name from token: {}", e.getMessage());
             return null; // Name is optional, return null instead of throwing
@@ -210,8 +243,7 @@ public class JwtTokenService {
     
     public String extractSubjectFromToken(String token) {
         try {
-            DecodedJWT jwt = validateToken(token);
-            return jwt.getSubject();
+            return resolvePrincipal(token).subject();
         } catch (Exception e) {
             log.error("Error extracting subject from token: {}", e.getMessage());
             throw new JwtException("Could not extract subject from token", e);
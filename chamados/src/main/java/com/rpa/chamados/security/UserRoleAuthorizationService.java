@@ -1,26 +1,25 @@
 package com.rpa.chamados.security;
 
-import com.rpa.chamados.domain.model.User;
 import com.rpa.chamados.domain.model.enums.UserRole;
-import com.rpa.chamados.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
-import java.util.Optional;
 
 @Slf4j
 @Service
 public class UserRoleAuthorizationService {
 
-    private final UserRepository userRepository;
-
-    public UserRoleAuthorizationService(UserRepository userRepository) {
-        this.userRepository = userRepository;
-    }
+    private static final String ROLE_PREFIX = "ROLE_";
 
+    /**
+     * Os papéis são lidos das authorities montadas pelo {@link JwtAuthenticationFilter},
+     * sem nova consulta ao banco por verificação. Sem authority de papel (usuário fora da
+     * tabela {@code users}, sem papel ou falha ao consultá-lo) o acesso é negado.
+     */
     public boolean hasAnyRole(UserRole... requiredRoles) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -31,15 +30,7 @@ public class UserRoleAuthorizationService {
             }
 
             String userEmail = authentication.getName();
-            Optional<User> userOpt = userRepository.findByEmail(userEmail);
-
-            if (userOpt.isEmpty()) {
-                log.warn("User not found with email: {}", userEmail);
-                return false;
-            }
-
-            User user = userOpt.get();
-            UserRole userRole = user.getUserRole();
+            UserRole userRole = resolveRole(authentication);
 
             if (userRole == null) {
                 log.warn("User {} has no role assigned", userEmail);
@@ -66,10 +57,7 @@ public class UserRoleAuthorizationService {
                 return null;
             }
 
-            String userEmail = authentication.getName();
-            Optional<User> userOpt = userRepository.findByEmail(userEmail);
-
-            return userOpt.map(User::getUserRole).orElse(null);
+            return resolveRole(authentication);
 
         } catch (Exception e) {
             log.error("Error getting current user role: {}", e.getMessage());
@@ -86,4 +74,19 @@ public class UserRoleAuthorizationService {
             return null;
         }
     }
+
+    private UserRole resolveRole(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name == null || !name.startsWith(ROLE_PREFIX)) {
+                continue;
+            }
+            try {
+                return UserRole.valueOf(name.substring(ROLE_PREFIX.length()));
+            } catch (IllegalArgumentException ignored) {
+                // ROLE_USER e outras authorities genéricas não correspondem a um UserRole
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.rpa.chamados.security;
+
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.domain.model.enums.UserRole;
+import com.rpa.chamados.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache email → {@link UserRole} usado pelo filtro JWT ao montar as authorities.
+ * Entradas expiram após o TTL configurado e devem ser invalidadas sempre que o
+ * papel de um usuário for alterado.
+ */
+@Slf4j
+@Component
+public class UserRoleCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMs;
+    private final int maxSize;
+    private final Map<String, CachedRole> entries;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserRoleCache(UserRepository userRepository,
+                         @Value("${app.security.role-cache.ttl-ms:300000}") long ttlMs,
+                         @Value("${app.security.role-cache.max-size:1000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRole> eldest) {
+                if (size() > UserRoleCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Papel atual do usuário, ou {@code null} se ele não existe no banco ou não tem papel.
+     * Esse resultado não é guardado, para que um usuário recém-cadastrado seja reconhecido
+     * na próxima requisição. Erros de acesso ao banco são propagados.
+     */
+    public UserRole resolveRole(String email) {
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            CachedRole cached = entries.get(email);
+            if (cached != null && cached.expiresAtMillis() > now) {
+                hits.incrementAndGet();
+                return cached.role();
+            }
+            if (cached != null) {
+                entries.remove(email);
+                evictions.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+        long observedGeneration = generation.get();
+        UserRole role = loadRole(email);
+
+        if (role != null && ttlMs > 0 && maxSize > 0) {
+            synchronized (entries) {
+                // Uma invalidação durante a leitura no banco torna o valor carregado suspeito
+                if (generation.get() == observedGeneration) {
+                    entries.put(email, new CachedRole(role, now + ttlMs));
+                }
+            }
+        }
+
+        return role;
+    }
+
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+
+        synchronized (entries) {
+            generation.incrementAndGet();
+            if (entries.remove(email) != null) {
+                evictions.incrementAndGet();
+            }
+        }
+        log.debug("Invalidated cached role for {}", email);
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            evictions.addAndGet(entries.size());
+            entries.clear();
+        }
+        log.info("Cleared user role cache");
+    }
+
+    public CacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(size, maxSize, hits.get(), misses.get(), evictions.get());
+    }
+
+    private UserRole loadRole(String email) {
+        Optional<User> userOpt = userRepository.findByEmail(email);
+
+        if (userOpt.isEmpty()) {
+            log.warn("User {} not found in database", email);
+            return null;
+        }
+
+        UserRole userRole = userOpt.get().getUserRole();
+        if (userRole == null) {
+            log.warn("User {} has no role assigned", email);
+            return null;
+        }
+
+        return userRole;
+    }
+
+    private record CachedRole(UserRole role, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.rpa.chamados.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache limitado de tokens já verificados, indexado pelo SHA-256 do token bruto.
+ * Uma entrada nunca sobrevive ao claim {@code exp} do token e é descartada quando
+ * a chave que a assinou deixa de existir no JWKS.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, CachedToken> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public VerifiedTokenCache(@Value("${app.security.token-cache.max-size:1000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedToken> eldest) {
+                if (size() > VerifiedTokenCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public DecodedJWT get(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            CachedToken cached = entries.get(key);
+            if (cached != null && cached.expiresAtMillis() > now) {
+                hits.incrementAndGet();
+                return cached.jwt();
+            }
+            if (cached != null) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(String token, DecodedJWT jwt) {
+        if (maxSize <= 0 || jwt.getExpiresAt() == null) {
+            return;
+        }
+
+        long expiresAtMillis = jwt.getExpiresAt().getTime();
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+
+        synchronized (entries) {
+            entries.put(digest(token), new CachedToken(jwt, jwt.getKeyId(), expiresAtMillis));
+        }
+    }
+
+    public void evictKeyIds(Collection<String> keyIds) {
+        if (keyIds.isEmpty()) {
+            return;
+        }
+
+        int removed = 0;
+        synchronized (entries) {
+            var iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                CachedToken cached = iterator.next();
+                if (cached.keyId() != null && keyIds.contains(cached.keyId())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+
+        evictions.addAndGet(removed);
+        log.info("Evicted {} cached tokens signed by rotated keys {}", removed, keyIds);
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            evictions.addAndGet(entries.size());
+            entries.clear();
+        }
+    }
+
+    public CacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(size, maxSize, hits.get(), misses.get(), evictions.get());
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedToken(DecodedJWT jwt, String keyId, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.domain.model.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface CallExportService {
+
+    long exportCalls(String search, String serviceType, String department, String technology,
+                     ExportFormat format, OutputStream out) throws IOException;
+
+}
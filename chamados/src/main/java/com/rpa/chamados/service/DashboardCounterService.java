@@ -0,0 +1,22 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.DashboardCountersDto;
+import com.rpa.chamados.domain.model.Request;
+import com.rpa.chamados.domain.model.enums.CounterDimension;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+public interface DashboardCounterService {
+
+    Map<CounterDimension, String> dimensionKeys(Request request);
+    void recordCreated(Request request);
+    void recordUpdated(Map<CounterDimension, String> previousKeys, Request request);
+    void recordDeleted(Request request);
+    void recordDepartmentChanged(UUID userId, String previousDepartment, String currentDepartment);
+    DashboardCountersDto getCounters();
+    DashboardCountersDto rebuild();
+    String weekKey(LocalDate date);
+
+}
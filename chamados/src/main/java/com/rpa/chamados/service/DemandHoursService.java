@@ -0,0 +1,29 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.DemandHoursDto;
+import com.rpa.chamados.domain.model.Tracking;
+import com.rpa.chamados.domain.model.enums.Nature;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DemandHoursService {
+
+    void recordCreated(Tracking tracking);
+    void recordUpdated(Long previousDemandId, Nature previousNature, Double previousHours, Tracking tracking);
+    void recordDeleted(Tracking tracking);
+
+    /**
+     * Totais das demandas informadas, na ordem recebida e sem repetições; demandas sem
+     * apontamentos vêm com zero.
+     */
+    List<DemandHoursDto> getHours(Collection<Long> demandIds);
+
+    /**
+     * Recalcula todas as entradas a partir da tabela de tracking.
+     *
+     * @return quantidade de entradas (demanda e natureza) gravadas
+     */
+    int rebuild();
+
+}
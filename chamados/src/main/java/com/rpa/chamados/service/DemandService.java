@@ -1,12 +1,16 @@
 package com.rpa.chamados.service;
 
 import com.rpa.chamados.controller.dto.CreateDemandRequest;
+import com.rpa.chamados.controller.dto.CursorPageDto;
 import com.rpa.chamados.controller.dto.DemandDto;
+import com.rpa.chamados.controller.dto.DemandImportResultDto;
 import com.rpa.chamados.controller.dto.GetAllDemandsResponse;
 import com.rpa.chamados.controller.dto.UpdateDemandRequest;
 import com.rpa.chamados.domain.model.enums.DemandStatus;
 import com.rpa.chamados.domain.model.enums.ServiceType;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,6 +18,18 @@ public interface DemandService {
 
     DemandDto createDemand(CreateDemandRequest request);
     DemandDto updateDemand(UpdateDemandRequest request);
+
+    /**
+     * Cria as demandas em lote. Todas as linhas são validadas antes do primeiro insert; se
+     * alguma tiver erro, nenhuma demanda é criada e os erros de todas as linhas são devolvidos.
+     */
+    DemandImportResultDto importDemands(List<CreateDemandRequest> requests);
+
+    /**
+     * Mesmo que {@link #importDemands(List)}, lendo as linhas de um CSV com cabeçalho.
+     */
+    DemandImportResultDto importDemandsCsv(InputStream csv) throws IOException;
+
     GetAllDemandsResponse getAllDemands();
     DemandDto findById(Long id);
     void deleteDemandById(Long id);
@@ -27,4 +43,12 @@ public interface DemandService {
     List<DemandDto> findByClient(Long client);
     List<DemandDto> findByService(Long service);
 
+    /**
+     * Consulta paginada por keyset combinando qualquer um dos filtros; filtros nulos são ignorados.
+     * As demandas vêm em ordem de id decrescente.
+     */
+    CursorPageDto<DemandDto> queryDemands(String search, DemandStatus status, ServiceType type, UUID analystId,
+                                          UUID focalPointId, Long projectId, Long clientId, Long robotId,
+                                          Long client, Long service, String cursor, int limit, boolean includeTotal);
+
 }
\ No newline at end of file
@@ -1,17 +1,23 @@
 package com.rpa.chamados.service;
 
 import com.rpa.chamados.controller.dto.*;
+import com.rpa.chamados.domain.model.enums.TimelineGranularity;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface RequestService {
     
-    List<RequestDto> getAllCalls();
+    CursorPageDto<RequestDto> getCalls(String cursor, int limit, boolean includeTotal);
+
+    CursorPageDto<RequestSummaryDto> getCallSummaries(String cursor, int limit, boolean includeTotal, Set<String> fields);
+
+    List<RequestDto> getRecentCalls(int limit);
+
+    List<RequestSummaryDto> getRecentCallSummaries(int limit, Set<String> fields);
 
     SubmissionResponseDto createMelhoria(CreateMelhoriaRequest request,
                                          List<MultipartFile> documentacaoFiles,
@@ -37,22 +43,33 @@ public interface RequestService {
     
     CallStatsDto getCallStats();
     
-    Page<RequestDto> searchCalls(String search, String serviceType, String department, 
-                                String technology, String celulaCode, String submittedBy, 
-                                String company, String dateFrom, String dateTo, Pageable pageable);
+    CursorPageDto<RequestDto> searchCalls(String search, String serviceType, String department, 
+                                          String technology, String celulaCode, String submittedBy, 
+                                          String company, String dateFrom, String dateTo,
+                                          String cursor, int limit, boolean includeTotal);
+
+    CursorPageDto<RequestSummaryDto> searchCallSummaries(String search, String serviceType, String department,
+                                                         String technology, String cursor, int limit,
+                                                         boolean includeTotal, Set<String> fields);
     
     void deleteCall(String id);
     
     List<RequestDto> getCallsByUser(String userId);
+
+    List<RequestSummaryDto> getCallSummariesByUser(String userId, Set<String> fields);
     
     Map<String, Long> getDepartmentStats();
     
     Map<String, Long> getTechnologyStats();
     
     List<UserTicketMetricsDto> getUserTicketMetrics();
+
+    List<UserTicketMetricsDto> getTopUserTicketMetrics(int limit);
     
     DashboardDataDto getDashboardData();
+
+    DashboardCountersDto rebuildDashboardCounters();
     
-    List<TimelineStatsDto> getTimelineStats(int weeks);
+    List<TimelineStatsDto> getTimelineStats(int periods, TimelineGranularity granularity);
 
 }
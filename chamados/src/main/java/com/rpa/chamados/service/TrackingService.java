@@ -1,11 +1,13 @@
 package com.rpa.chamados.service;
 
 import com.rpa.chamados.controller.dto.CreateTrackingRequest;
+import com.rpa.chamados.controller.dto.DemandHoursDto;
 import com.rpa.chamados.controller.dto.GetAllTrackingsResponse;
 import com.rpa.chamados.controller.dto.TrackingDto;
 import com.rpa.chamados.controller.dto.UpdateTrackingRequest;
 import com.rpa.chamados.domain.model.enums.Nature;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,4 +24,11 @@ public interface TrackingService {
     Double getTotalHoursByDemandId(Long demandId);
     Double getTotalHoursByDemandIdAndNature(Long demandId, Nature nature);
 
+    /**
+     * Totais de horas, geral e por natureza, de várias demandas numa única consulta.
+     */
+    List<DemandHoursDto> getTotalHoursByDemandIds(Collection<Long> demandIds);
+
+    int rebuildDemandHours();
+
 }
\ No newline at end of file
@@ -5,12 +5,26 @@ import com.rpa.chamados.controller.dto.SubmitterInfoDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
 public interface UserService {
 
-    List<SubmitterInfoDto> getFormRespondents();
+    Page<SubmitterInfoDto> getFormRespondents(Pageable pageable);
+
+    /**
+     * Escreve todos os usuários como um array JSON, lendo-os do banco por cursor.
+     *
+     * @return quantidade de usuários escritos
+     */
+    long writeFormRespondents(OutputStream out) throws IOException;
+
+    /**
+     * Versão atual da lista de usuários, usada como ETag pelas listagens.
+     */
+    String getFormRespondentsVersion();
     
     SubmitterInfoDto getFormRespondentById(String id);
     
@@ -1,6 +1,7 @@
 package com.rpa.chamados.service.impl;
 
 import com.rpa.chamados.controller.dto.SubmitterInfoDto;
+import com.rpa.chamados.security.JwtPrincipal;
 import com.rpa.chamados.security.JwtTokenService;
 import com.rpa.chamados.service.AuthenticationService;
 import com.rpa.chamados.service.UserService;
@@ -60,11 +61,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     @Override
     public SubmitterInfoDto validateTokenAndGetUser(String token) {
         try {
-            if (!isValidToken(token)) {
-                throw new JwtException("Invalid token");
-            }
+            JwtPrincipal principal = resolvePrincipal(token);
 
-            String email = extractEmailFromToken(token);
+            String email = principal.email();
             if (email == null || email.trim().isEmpty()) {
                 throw new JwtException("Token does not contain valid email");
             }
@@ -90,11 +89,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     @Override
     public SubmitterInfoDto ensureUserExists(String token) {
         try {
-            if (!isValidToken(token)) {
-                throw new JwtException("Invalid token");
-            }
+            JwtPrincipal principal = resolvePrincipal(token);
 
-            String email = extractEmailFromToken(token);
+            String email = principal.email();
             if (email == null || email.trim().isEmpty()) {
                 throw new JwtException("Token does not contain valid email");
             }
@@ -107,11 +104,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 log.debug("User not found in database, will create new user: {}", email);
             }
 
-            String name = extractNameFromToken(token);
-            String subject = jwtTokenService.extractSubjectFromToken(token);
+            String name = principal.displayName();
             
             SubmitterInfoDto newUserData = new SubmitterInfoDto(
-                subject,
+                principal.subject(),
                 name != null ? name : email,
                 email,
                 null,
@@ -137,6 +133,14 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         }
     }
 
+    private JwtPrincipal resolvePrincipal(String token) {
+        try {
+            return jwtTokenService.resolvePrincipal(token);
+        } catch (JwtException e) {
+            throw new JwtException("Invalid token", e);
+        }
+    }
+
     @Override
     public String extractEmailFromToken(String token) {
         try {
@@ -160,7 +164,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     @Override
     public boolean isValidToken(String token) {
         try {
-            jwtTokenService.validateToken(token);
+            jwtTokenService.resolvePrincipal(token);
             return true;
         } catch (JwtException e) {
             log.debug("Token validation failed: {}", e.getMessage());
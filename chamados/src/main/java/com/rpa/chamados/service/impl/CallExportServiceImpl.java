@@ -0,0 +1,145 @@
+package com.rpa.chamados.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rpa.chamados.controller.dto.RequestSummaryDto;
+import com.rpa.chamados.controller.dto.SubmitterSummaryDto;
+import com.rpa.chamados.domain.model.enums.ExportFormat;
+import com.rpa.chamados.repository.RequestRepository;
+import com.rpa.chamados.service.CallExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de chamados em CSV ou NDJSON. As linhas são lidas do banco por cursor e
+ * escritas na resposta à medida que chegam, então a memória usada não depende do
+ * número de chamados exportados.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class CallExportServiceImpl implements CallExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY = 500;
+
+    private static final List<Column> CSV_COLUMNS = List.of(
+        new Column("ID", RequestSummaryDto::id),
+        new Column("Tipo", row -> row.serviceType() != null ? row.serviceType().name() : null),
+        new Column("Descrição", RequestSummaryDto::description),
+        new Column("Solicitante", row -> submitter(row, SubmitterSummaryDto::name)),
+        new Column("Email", row -> submitter(row, SubmitterSummaryDto::email)),
+        new Column("Departamento", row -> submitter(row, SubmitterSummaryDto::department)),
+        new Column("Empresa do solicitante", row -> submitter(row, SubmitterSummaryDto::company)),
+        new Column("Célula", RequestSummaryDto::celula),
+        new Column("Robô", RequestSummaryDto::robotSelecionado),
+        new Column("Tecnologia", RequestSummaryDto::tecnologiaAutomacao),
+        new Column("Empresa", RequestSummaryDto::empresa),
+        new Column("ROI", RequestSummaryDto::roi),
+        new Column("Criado em", row -> row.createdAt() != null ? row.createdAt().toString() : null),
+        new Column("Atualizado em", row -> row.updatedAt() != null ? row.updatedAt().toString() : null)
+    );
+
+    private final RequestRepository requestRepository;
+    private final ObjectMapper objectMapper;
+
+    public CallExportServiceImpl(RequestRepository requestRepository, ObjectMapper objectMapper) {
+        this.requestRepository = requestRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public long exportCalls(String search, String serviceType, String department, String technology,
+                            ExportFormat format, OutputStream out) throws IOException {
+        String serviceTypeParam = serviceType != null && !serviceType.equals("all")
+            ? serviceType.toUpperCase().replace("-", "_")
+            : null;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == ExportFormat.CSV) {
+            writeCsvHeader(writer);
+        }
+        // O cabeçalho sai antes da consulta, então o cliente recebe o primeiro byte de imediato
+        writer.flush();
+
+        long rows = 0;
+        try (Stream<RequestSummaryDto> summaries = requestRepository.streamSummaries(
+                search, serviceTypeParam, department, technology)) {
+            Iterator<RequestSummaryDto> iterator = summaries.iterator();
+            while (iterator.hasNext()) {
+                RequestSummaryDto row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+
+                if (++rows % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        log.info("Exported {} calls as {}", rows, format);
+        return rows;
+    }
+
+    private void writeCsvHeader(Writer writer) throws IOException {
+        // BOM para o Excel reconhecer UTF-8 e manter os acentos
+        writer.write('\uFEFF');
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(CSV_COLUMNS.get(i).header());
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvRow(Writer writer, RequestSummaryDto row) throws IOException {
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvCell(CSV_COLUMNS.get(i).value().apply(row)));
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvCell(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+
+        // Evita que planilhas interpretem o conteúdo como fórmula
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private static String submitter(RequestSummaryDto row, Function<SubmitterSummaryDto, String> field) {
+        return row.submitterInfo() != null ? field.apply(row.submitterInfo()) : null;
+    }
+
+    private record Column(String header, Function<RequestSummaryDto, String> value) {
+    }
+}
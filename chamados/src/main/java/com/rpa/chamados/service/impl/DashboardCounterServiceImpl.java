@@ -0,0 +1,225 @@
+package com.rpa.chamados.service.impl;
+
+import com.rpa.chamados.controller.dto.DashboardCountersDto;
+import com.rpa.chamados.domain.model.Request;
+import com.rpa.chamados.domain.model.enums.CounterDimension;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+import com.rpa.chamados.repository.DashboardCounterRepository;
+import com.rpa.chamados.repository.RequestRepository;
+import com.rpa.chamados.service.DashboardCounterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.util.*;
+
+/**
+ * Contadores do dashboard mantidos de forma incremental na mesma transação que cria,
+ * altera ou remove uma solicitação. {@link #rebuild()} recalcula tudo a partir da
+ * tabela de solicitações para corrigir divergências.
+ */
+@Slf4j
+@Service
+@Transactional
+public class DashboardCounterServiceImpl implements DashboardCounterService {
+
+    private static final String TOTAL_KEY = "ALL";
+
+    private final DashboardCounterRepository counterRepository;
+    private final RequestRepository requestRepository;
+    private final TransactionTemplate newTransaction;
+
+    public DashboardCounterServiceImpl(DashboardCounterRepository counterRepository,
+                                       RequestRepository requestRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.requestRepository = requestRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeCounters() {
+        if (counterRepository.count() == 0) {
+            log.info("Dashboard counters are empty, rebuilding from requests");
+            rebuild();
+        }
+    }
+
+    @Override
+    public Map<CounterDimension, String> dimensionKeys(Request request) {
+        Map<CounterDimension, String> keys = new EnumMap<>(CounterDimension.class);
+        keys.put(CounterDimension.TOTAL, TOTAL_KEY);
+        keys.put(CounterDimension.SERVICE_TYPE, request.getServiceType().name());
+
+        if (request.getCelula() != null) {
+            keys.put(CounterDimension.CELULA, request.getCelula());
+        }
+        if (request.getUser() != null && request.getUser().getDepartment() != null) {
+            keys.put(CounterDimension.DEPARTMENT, request.getUser().getDepartment());
+        }
+        if (request.getTecnologiaAutomacao() != null) {
+            keys.put(CounterDimension.TECHNOLOGY, request.getTecnologiaAutomacao());
+        }
+
+        LocalDateTime createdAt = request.getCreatedAt() != null ? request.getCreatedAt() : LocalDateTime.now();
+        keys.put(CounterDimension.WEEK, weekKey(createdAt.toLocalDate()));
+
+        return keys;
+    }
+
+    @Override
+    public void recordCreated(Request request) {
+        dimensionKeys(request).forEach((dimension, key) -> increment(dimension, key, 1));
+    }
+
+    @Override
+    public void recordUpdated(Map<CounterDimension, String> previousKeys, Request request) {
+        Map<CounterDimension, String> currentKeys = dimensionKeys(request);
+
+        for (CounterDimension dimension : CounterDimension.values()) {
+            String previous = previousKeys.get(dimension);
+            String current = currentKeys.get(dimension);
+
+            if (Objects.equals(previous, current)) {
+                continue;
+            }
+            if (previous != null) {
+                increment(dimension, previous, -1);
+            }
+            if (current != null) {
+                increment(dimension, current, 1);
+            }
+        }
+    }
+
+    @Override
+    public void recordDeleted(Request request) {
+        dimensionKeys(request).forEach((dimension, key) -> increment(dimension, key, -1));
+    }
+
+    /**
+     * O departamento das solicitações vem do usuário, então quando ele muda todas as
+     * solicitações do usuário passam de uma chave para a outra.
+     */
+    @Override
+    public void recordDepartmentChanged(UUID userId, String previousDepartment, String currentDepartment) {
+        if (Objects.equals(previousDepartment, currentDepartment)) {
+            return;
+        }
+        long requests = requestRepository.countByUserId(userId);
+        if (requests == 0) {
+            return;
+        }
+        if (previousDepartment != null) {
+            increment(CounterDimension.DEPARTMENT, previousDepartment, -requests);
+        }
+        if (currentDepartment != null) {
+            increment(CounterDimension.DEPARTMENT, currentDepartment, requests);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DashboardCountersDto getCounters() {
+        Map<CounterDimension, Map<String, Long>> totals = new EnumMap<>(CounterDimension.class);
+        for (CounterDimension dimension : CounterDimension.values()) {
+            totals.put(dimension, new HashMap<>());
+        }
+
+        for (Object[] row : counterRepository.findAllTotals()) {
+            long total = ((Number) row[2]).longValue();
+            if (total > 0) {
+                totals.get((CounterDimension) row[0]).put((String) row[1], total);
+            }
+        }
+
+        return new DashboardCountersDto(
+            totals.get(CounterDimension.TOTAL).getOrDefault(TOTAL_KEY, 0L),
+            totals.get(CounterDimension.SERVICE_TYPE),
+            totals.get(CounterDimension.CELULA),
+            totals.get(CounterDimension.DEPARTMENT),
+            totals.get(CounterDimension.TECHNOLOGY),
+            totals.get(CounterDimension.WEEK)
+        );
+    }
+
+    @Override
+    public DashboardCountersDto rebuild() {
+        log.debug("Rebuilding dashboard counters");
+
+        Map<CounterDimension, Map<String, Long>> totals = new EnumMap<>(CounterDimension.class);
+
+        for (Object[] row : requestRepository.getCallStatsBreakdown(LocalDateTime.now())) {
+            long count = ((Number) row[4]).longValue();
+            add(totals, CounterDimension.TOTAL, TOTAL_KEY, count);
+            add(totals, CounterDimension.SERVICE_TYPE, serviceTypeName((Class<?>) row[0]), count);
+            add(totals, CounterDimension.CELULA, (String) row[1], count);
+            add(totals, CounterDimension.DEPARTMENT, (String) row[2], count);
+            add(totals, CounterDimension.TECHNOLOGY, (String) row[3], count);
+        }
+
+        for (Object[] row : requestRepository.countByCreationDay()) {
+            add(totals, CounterDimension.WEEK, weekKey((LocalDate) row[0]), ((Number) row[1]).longValue());
+        }
+
+        counterRepository.deleteAllInBatch();
+        totals.forEach((dimension, byKey) ->
+            byKey.forEach((key, total) -> counterRepository.insert(dimension, key, total)));
+
+        DashboardCountersDto counters = getCounters();
+        log.info("Rebuilt dashboard counters for {} requests", counters.total());
+        return counters;
+    }
+
+    @Override
+    public String weekKey(LocalDate date) {
+        return String.format("%d-W%02d", date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+
+    /**
+     * Um contador novo nasce zerado numa transação própria, e o incremento é refeito na
+     * transação atual. Assim duas criações simultâneas para a mesma chave não disputam o
+     * insert dentro da transação da solicitação: quem perde recebe a violação da chave única
+     * na transação auxiliar e apenas incrementa a linha criada pela outra. Se a solicitação
+     * for desfeita, fica só a linha zerada.
+     */
+    private void increment(CounterDimension dimension, String key, long delta) {
+        if (counterRepository.increment(dimension, key, delta) > 0) {
+            return;
+        }
+        if (delta < 0) {
+            log.warn("Dashboard counter {}={} missing on decrement, rebuild required", dimension, key);
+            return;
+        }
+
+        try {
+            newTransaction.executeWithoutResult(status -> counterRepository.insert(dimension, key, 0));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Dashboard counter {}={} created concurrently", dimension, key);
+        }
+        if (counterRepository.increment(dimension, key, delta) == 0) {
+            log.warn("Dashboard counter {}={} missing after insert, rebuild required", dimension, key);
+        }
+    }
+
+    private void add(Map<CounterDimension, Map<String, Long>> totals, CounterDimension dimension, String key, long count) {
+        if (key != null) {
+            totals.computeIfAbsent(dimension, d -> new HashMap<>()).merge(key, count, Long::sum);
+        }
+    }
+
+    private String serviceTypeName(Class<?> requestType) {
+        ServiceType serviceType = ServiceType.of(requestType);
+        return serviceType != null ? serviceType.name() : null;
+    }
+}
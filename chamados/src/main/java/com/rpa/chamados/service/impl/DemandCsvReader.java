@@ -0,0 +1,201 @@
+package com.rpa.chamados.service.impl;
+
+import com.rpa.chamados.controller.dto.CreateDemandRequest;
+import com.rpa.chamados.controller.dto.DemandImportErrorDto;
+import com.rpa.chamados.domain.model.enums.DemandStatus;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Lê o CSV da importação de demandas. O separador ({@code ,} ou {@code ;}) é detectado pelo
+ * cabeçalho, cujas colunas têm os nomes dos campos de {@link CreateDemandRequest} sem diferenciar
+ * maiúsculas, espaços, {@code _} ou {@code -}. Valores entre aspas podem conter o separador,
+ * quebras de linha e aspas duplicadas ({@code ""}).
+ */
+class DemandCsvReader {
+
+    private static final List<String> COLUMNS = List.of("name", "docHours", "devHours", "type", "description",
+            "focalPointId", "analystId", "projectId", "status", "openedAt", "startAt", "endsAt", "roi", "robotId",
+            "client", "service");
+
+    /**
+     * Linha convertida; campos com erro de conversão ficam nulos e o erro vai em {@code errors}.
+     */
+    record Row(int row, CreateDemandRequest request, List<DemandImportErrorDto> errors) {
+    }
+
+    List<Row> read(InputStream input) throws IOException {
+        String content;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            StringBuilder builder = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                builder.append(buffer, 0, read);
+            }
+            content = builder.toString();
+        }
+        if (!content.isEmpty() && content.charAt(0) == '\uFEFF') {
+            content = content.substring(1);
+        }
+
+        char delimiter = detectDelimiter(content);
+        List<List<String>> records = split(content, delimiter);
+        if (records.isEmpty()) {
+            throw new IllegalArgumentException("Arquivo CSV vazio");
+        }
+
+        List<String> header = records.getFirst();
+        String[] fields = new String[header.size()];
+        for (int i = 0; i < header.size(); i++) {
+            fields[i] = column(header.get(i));
+        }
+
+        List<Row> rows = new ArrayList<>(records.size() - 1);
+        for (int i = 1; i < records.size(); i++) {
+            rows.add(toRow(i, fields, records.get(i)));
+        }
+        return rows;
+    }
+
+    private Row toRow(int row, String[] fields, List<String> values) {
+        Map<String, String> raw = new HashMap<>();
+        for (int i = 0; i < fields.length && i < values.size(); i++) {
+            raw.put(fields[i], values.get(i).trim());
+        }
+
+        List<DemandImportErrorDto> errors = new ArrayList<>();
+        Converter converter = new Converter(row, raw, errors);
+        CreateDemandRequest request = new CreateDemandRequest(
+                converter.text("name"),
+                converter.convert("docHours", DemandCsvReader::parseDecimal),
+                converter.convert("devHours", DemandCsvReader::parseDecimal),
+                converter.convert("type", ServiceType::from),
+                converter.text("description"),
+                converter.convert("focalPointId", UUID::fromString),
+                converter.convert("analystId", UUID::fromString),
+                converter.convert("projectId", Long::valueOf),
+                converter.convert("status", value -> DemandStatus.valueOf(value.toUpperCase(Locale.ROOT))),
+                converter.convert("openedAt", LocalDate::parse),
+                converter.convert("startAt", LocalDate::parse),
+                converter.convert("endsAt", LocalDate::parse),
+                converter.text("roi"),
+                converter.convert("robotId", Long::valueOf),
+                converter.convert("client", Long::valueOf),
+                converter.convert("service", Long::valueOf)
+        );
+        return new Row(row, request, errors);
+    }
+
+    private record Converter(int row, Map<String, String> raw, List<DemandImportErrorDto> errors) {
+
+        String text(String field) {
+            String value = raw.get(field);
+            return value == null || value.isEmpty() ? null : value;
+        }
+
+        <T> T convert(String field, Function<String, T> parser) {
+            String value = text(field);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return parser.apply(value);
+            } catch (RuntimeException e) {
+                errors.add(new DemandImportErrorDto(row, field, "Valor inválido para " + field, value));
+                return null;
+            }
+        }
+    }
+
+    private static Double parseDecimal(String value) {
+        return Double.valueOf(value.replace(',', '.'));
+    }
+
+    private static String column(String header) {
+        String normalized = header.trim().replaceAll("[\\s_-]", "");
+        for (String column : COLUMNS) {
+            if (column.equalsIgnoreCase(normalized)) {
+                return column;
+            }
+        }
+        throw new IllegalArgumentException("Coluna desconhecida no CSV: " + header.trim());
+    }
+
+    private static char detectDelimiter(String content) {
+        int end = content.indexOf('\n');
+        String header = end < 0 ? content : content.substring(0, end);
+        long semicolons = header.chars().filter(c -> c == ';').count();
+        long commas = header.chars().filter(c -> c == ',').count();
+        return semicolons > commas ? ';' : ',';
+    }
+
+    /**
+     * Divide o conteúdo em registros e campos, ignorando linhas em branco.
+     */
+    private static List<List<String>> split(String content, char delimiter) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean blank = true;
+
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < content.length() && content.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                blank = false;
+            } else if (c == delimiter) {
+                record.add(field.toString());
+                field.setLength(0);
+                blank = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < content.length() && content.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                if (!blank) {
+                    record.add(field.toString());
+                    records.add(record);
+                }
+                record = new ArrayList<>();
+                field.setLength(0);
+                blank = true;
+            } else {
+                field.append(c);
+                if (!Character.isWhitespace(c)) {
+                    blank = false;
+                }
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Arquivo CSV com aspas não fechadas");
+        }
+        if (!blank) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+}
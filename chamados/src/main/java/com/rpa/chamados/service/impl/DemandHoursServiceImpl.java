@@ -0,0 +1,160 @@
+package com.rpa.chamados.service.impl;
+
+import com.rpa.chamados.controller.dto.DemandHoursDto;
+import com.rpa.chamados.domain.model.Tracking;
+import com.rpa.chamados.domain.model.enums.Nature;
+import com.rpa.chamados.repository.DemandHoursRepository;
+import com.rpa.chamados.repository.TrackingRepository;
+import com.rpa.chamados.service.DemandHoursService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Horas por demanda e natureza mantidas de forma incremental na mesma transação que cria,
+ * altera ou remove um tracking, para que os totais não precisem somar todo o histórico de
+ * apontamentos. {@link #rebuild()} recalcula tudo a partir da tabela de tracking.
+ */
+@Slf4j
+@Service
+@Transactional
+public class DemandHoursServiceImpl implements DemandHoursService {
+
+    /**
+     * Máximo de demandas por consulta de totais, abaixo do limite de parâmetros do SQL Server.
+     */
+    private static final int MAX_DEMAND_IDS = 500;
+
+    private final DemandHoursRepository demandHoursRepository;
+    private final TrackingRepository trackingRepository;
+    private final TransactionTemplate newTransaction;
+
+    public DemandHoursServiceImpl(DemandHoursRepository demandHoursRepository,
+                                  TrackingRepository trackingRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.demandHoursRepository = demandHoursRepository;
+        this.trackingRepository = trackingRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeHours() {
+        if (demandHoursRepository.count() == 0) {
+            log.info("Demand hours are empty, rebuilding from trackings");
+            rebuild();
+        }
+    }
+
+    @Override
+    public void recordCreated(Tracking tracking) {
+        add(demandId(tracking), tracking.getNature(), hours(tracking.getHours()));
+    }
+
+    @Override
+    public void recordUpdated(Long previousDemandId, Nature previousNature, Double previousHours, Tracking tracking) {
+        Long demandId = demandId(tracking);
+        if (Objects.equals(previousDemandId, demandId) && previousNature == tracking.getNature()) {
+            add(demandId, tracking.getNature(), hours(tracking.getHours()) - hours(previousHours));
+            return;
+        }
+
+        add(previousDemandId, previousNature, -hours(previousHours));
+        add(demandId, tracking.getNature(), hours(tracking.getHours()));
+    }
+
+    @Override
+    public void recordDeleted(Tracking tracking) {
+        add(demandId(tracking), tracking.getNature(), -hours(tracking.getHours()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DemandHoursDto> getHours(Collection<Long> demandIds) {
+        Set<Long> ids = new LinkedHashSet<>(demandIds);
+        ids.remove(null);
+        if (ids.size() > MAX_DEMAND_IDS) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_DEMAND_IDS + " demandas");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Map<Nature, Double>> hoursByDemand = new HashMap<>();
+        for (Object[] row : demandHoursRepository.findHoursByDemandIds(ids)) {
+            hoursByDemand.computeIfAbsent((Long) row[0], id -> new EnumMap<>(Nature.class))
+                    .put((Nature) row[1], ((Number) row[2]).doubleValue());
+        }
+
+        List<DemandHoursDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Map<Nature, Double> byNature = new EnumMap<>(Nature.class);
+            Map<Nature, Double> recorded = hoursByDemand.getOrDefault(id, Map.of());
+            double total = 0.0;
+            for (Nature nature : Nature.values()) {
+                double hours = recorded.getOrDefault(nature, 0.0);
+                byNature.put(nature, hours);
+                total += hours;
+            }
+            result.add(new DemandHoursDto(id, total, byNature));
+        }
+        return result;
+    }
+
+    @Override
+    public int rebuild() {
+        log.debug("Rebuilding demand hours");
+
+        List<Object[]> totals = trackingRepository.sumHoursByDemandAndNature();
+        demandHoursRepository.deleteAllInBatch();
+        for (Object[] row : totals) {
+            demandHoursRepository.insert((Long) row[0], (Nature) row[1], hours((Double) row[2]));
+        }
+
+        log.info("Rebuilt demand hours with {} entries", totals.size());
+        return totals.size();
+    }
+
+    /**
+     * Como nos contadores do dashboard, a entrada nova nasce zerada numa transação própria e as
+     * horas são somadas na transação do tracking, para que dois apontamentos simultâneos da mesma
+     * demanda e natureza não disputem o insert.
+     */
+    private void add(Long demandId, Nature nature, double delta) {
+        if (demandId == null || nature == null || delta == 0) {
+            return;
+        }
+        if (demandHoursRepository.increment(demandId, nature, delta) > 0) {
+            return;
+        }
+        if (delta < 0) {
+            log.warn("Demand hours {}={} missing on decrement, rebuild required", demandId, nature);
+            return;
+        }
+
+        try {
+            newTransaction.executeWithoutResult(status -> demandHoursRepository.insert(demandId, nature, 0));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Demand hours {}={} created concurrently", demandId, nature);
+        }
+        if (demandHoursRepository.increment(demandId, nature, delta) == 0) {
+            log.warn("Demand hours {}={} missing after insert, rebuild required", demandId, nature);
+        }
+    }
+
+    private static Long demandId(Tracking tracking) {
+        return tracking.getDemand() != null ? tracking.getDemand().getId() : null;
+    }
+
+    private static double hours(Double hours) {
+        return hours != null ? hours : 0.0;
+    }
+}
@@ -11,123 +11,315 @@ import com.rpa.chamados.exception.DemandAlreadyExistsException;
 import com.rpa.chamados.exception.DemandNotFoundException;
 import com.rpa.chamados.exception.InvalidDemandUpdateException;
 import com.rpa.chamados.repository.DemandRepository;
+import com.rpa.chamados.repository.DemandSpecifications;
 import com.rpa.chamados.repository.ProjectRepository;
 import com.rpa.chamados.repository.RobotRepository;
 import com.rpa.chamados.repository.UserRepository;
 import com.rpa.chamados.service.DemandService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
+@Slf4j
 @Service
 @Transactional
 public class DemandServiceImpl implements DemandService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Demandas persistidas por vez na importação: o contexto de persistência é esvaziado a cada
+     * bloco para não crescer com o arquivo inteiro.
+     */
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
+    /**
+     * Tamanho máximo das listas {@code IN} nas verificações da importação, abaixo do limite
+     * de parâmetros do SQL Server.
+     */
+    private static final int IMPORT_LOOKUP_SIZE = 1000;
+
+    /**
+     * Mesmas associações de {@link Demand#WITH_RELATIONS}, para consultas por specification.
+     */
+    private static final List<String> DEMAND_RELATIONS =
+            List.of("focalPoint", "analyst", "robot", "project", "project.client");
+
     private final DemandRepository demandRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final RobotRepository robotRepository;
+    private final Validator validator;
+    private final EntityManager entityManager;
 
     public DemandServiceImpl(DemandRepository demandRepository,
                            ProjectRepository projectRepository,
                            UserRepository userRepository,
-                           RobotRepository robotRepository) {
+                           RobotRepository robotRepository,
+                           Validator validator,
+                           EntityManager entityManager) {
         this.demandRepository = demandRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.robotRepository = robotRepository;
+        this.validator = validator;
+        this.entityManager = entityManager;
     }
 
     @Override
     public DemandDto createDemand(CreateDemandRequest request) {
-        if (demandRepository.existsByName(request.name())) {
-            throw new DemandAlreadyExistsException("Demanda com o nome '" + request.name() + "' já existe");
-        }
+        DemandReferences references = resolveReferences(request.projectId(), request.focalPointId(),
+                request.analystId(), request.robotId(), request.name(), null);
+
+        Demand savedDemand = demandRepository.save(toDemand(request, references));
+        // Uma consulta com as associações preenche as referências, que até aqui são só proxies
+        return convertToDto(demandRepository.findWithRelationsById(savedDemand.getId()).orElse(savedDemand));
+    }
+
+    @Override
+    public DemandDto updateDemand(UpdateDemandRequest request) {
+        Demand existingDemand = demandRepository.findWithRelationsById(request.id())
+                .orElseThrow(() -> new DemandNotFoundException("Demanda com ID " + request.id() + " não encontrada"));
+
+        DemandReferences references = resolveReferences(request.projectId(), request.focalPointId(),
+                request.analystId(), request.robotId(), request.name(), request.id());
+
+        existingDemand.setName(request.name());
+        existingDemand.setDocHours(request.docHours());
+        existingDemand.setDevHours(request.devHours());
+        existingDemand.setType(request.type());
+        existingDemand.setDescription(request.description());
+        existingDemand.setFocalPoint(references.focalPoint());
+        existingDemand.setAnalyst(references.analyst());
+        existingDemand.setProject(references.project());
+        existingDemand.setStatus(request.status());
+        existingDemand.setOpenedAt(request.openedAt());
+        existingDemand.setStartAt(request.startAt());
+        existingDemand.setEndsAt(request.endsAt());
+        existingDemand.setEndedAt(request.endedAt());
+        existingDemand.setROI(request.roi());
+        existingDemand.setRobot(references.robot());
+        existingDemand.setClient(request.client());
+        existingDemand.setService(request.service());
 
-        Project project = projectRepository.findById(request.projectId())
-                .orElseThrow(() -> new InvalidDemandUpdateException("Projeto com ID " + request.projectId() + " não encontrado"));
+        Demand savedDemand = demandRepository.save(existingDemand);
+        return convertToDto(savedDemand);
+    }
 
-        User focalPoint = userRepository.findById(request.focalPointId())
-                .orElseThrow(() -> new InvalidDemandUpdateException("Ponto focal com ID " + request.focalPointId() + " não encontrado"));
+    /**
+     * Confere numa única consulta se projeto, ponto focal, analista e robô existem e se o nome
+     * está livre, e devolve referências por id sem carregar as entidades.
+     *
+     * @param demandId id da demanda em edição, ou {@code null} na criação
+     */
+    private DemandReferences resolveReferences(Long projectId, UUID focalPointId, UUID analystId, Long robotId,
+                                               String name, Long demandId) {
+        Object[] counts = demandRepository.checkReferences(projectId, focalPointId, analystId, robotId, name,
+                demandId != null ? demandId : 0L).getFirst();
+
+        if (((Number) counts[4]).longValue() > 0) {
+            String message = "Demanda com o nome '" + name + "' já existe";
+            throw demandId == null
+                    ? new DemandAlreadyExistsException(message)
+                    : new InvalidDemandUpdateException(message);
+        }
+        if (((Number) counts[0]).longValue() == 0) {
+            throw new InvalidDemandUpdateException("Projeto com ID " + projectId + " não encontrado");
+        }
+        if (((Number) counts[1]).longValue() == 0) {
+            throw new InvalidDemandUpdateException("Ponto focal com ID " + focalPointId + " não encontrado");
+        }
+        if (((Number) counts[2]).longValue() == 0) {
+            throw new InvalidDemandUpdateException("Analista com ID " + analystId + " não encontrado");
+        }
+        if (((Number) counts[3]).longValue() == 0) {
+            throw new InvalidDemandUpdateException("Robot com ID " + robotId + " não encontrado");
+        }
 
-        User analyst = userRepository.findById(request.analystId())
-                .orElseThrow(() -> new InvalidDemandUpdateException("Analista com ID " + request.analystId() + " não encontrado"));
+        return new DemandReferences(
+                projectRepository.getReferenceById(projectId),
+                userRepository.getReferenceById(focalPointId),
+                userRepository.getReferenceById(analystId),
+                robotRepository.getReferenceById(robotId)
+        );
+    }
 
-        Robot robot = robotRepository.findById(request.robotId())
-                .orElseThrow(() -> new InvalidDemandUpdateException("Robot com ID " + request.robotId() + " não encontrado"));
+    private record DemandReferences(Project project, User focalPoint, User analyst, Robot robot) {
+    }
 
-        Demand demand = Demand.builder()
+    private Demand toDemand(CreateDemandRequest request, DemandReferences references) {
+        return Demand.builder()
                 .name(request.name())
                 .docHours(request.docHours())
                 .devHours(request.devHours())
                 .type(request.type())
                 .description(request.description())
-                .focalPoint(focalPoint)
-                .analyst(analyst)
-                .project(project)
+                .focalPoint(references.focalPoint())
+                .analyst(references.analyst())
+                .project(references.project())
                 .status(request.status())
                 .openedAt(request.openedAt())
                 .startAt(request.startAt())
                 .endsAt(request.endsAt())
                 .ROI(request.roi())
-                .robot(robot)
+                .robot(references.robot())
                 .client(request.client())
                 .service(request.service())
                 .build();
+    }
 
-        Demand savedDemand = demandRepository.save(demand);
-        return convertToDto(savedDemand);
+    @Override
+    public DemandImportResultDto importDemands(List<CreateDemandRequest> requests) {
+        List<DemandCsvReader.Row> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            rows.add(new DemandCsvReader.Row(i + 1, requests.get(i), new ArrayList<>()));
+        }
+        return importRows(rows);
     }
 
     @Override
-    public DemandDto updateDemand(UpdateDemandRequest request) {
-        Demand existingDemand = demandRepository.findById(request.id())
-                .orElseThrow(() -> new DemandNotFoundException("Demanda com ID " + request.id() + " não encontrada"));
+    public DemandImportResultDto importDemandsCsv(InputStream csv) throws IOException {
+        return importRows(new DemandCsvReader().read(csv));
+    }
+
+    private DemandImportResultDto importRows(List<DemandCsvReader.Row> rows) {
+        List<DemandImportErrorDto> errors = validateImport(rows);
+        if (!errors.isEmpty()) {
+            log.warn("Demand import rejected: {} errors in {} rows", errors.size(), rows.size());
+            return new DemandImportResultDto(rows.size(), 0, errors);
+        }
 
-        if (demandRepository.existsByNameAndIdNot(request.name(), request.id())) {
-            throw new InvalidDemandUpdateException("Demanda com o nome '" + request.name() + "' já existe");
+        // Com ids por sequência o Hibernate agrupa os inserts em lotes JDBC a cada flush
+        for (int start = 0; start < rows.size(); start += IMPORT_CHUNK_SIZE) {
+            List<Demand> chunk = rows.subList(start, Math.min(start + IMPORT_CHUNK_SIZE, rows.size())).stream()
+                    .map(row -> toDemand(row.request(), new DemandReferences(
+                            projectRepository.getReferenceById(row.request().projectId()),
+                            userRepository.getReferenceById(row.request().focalPointId()),
+                            userRepository.getReferenceById(row.request().analystId()),
+                            robotRepository.getReferenceById(row.request().robotId()))))
+                    .toList();
+            demandRepository.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
         }
 
-        Project project = projectRepository.findById(request.projectId())
-                .orElseThrow(() -> new InvalidDemandUpdateException("Projeto com ID " + request.projectId() + " não encontrado"));
+        log.info("Imported {} demands", rows.size());
+        return new DemandImportResultDto(rows.size(), rows.size(), List.of());
+    }
 
-        User focalPoint = userRepository.findById(request.focalPointId())
-                .orElseThrow(() -> new InvalidDemandUpdateException("Ponto focal com ID " + request.focalPointId() + " não encontrado"));
+    /**
+     * Valida todas as linhas antes de qualquer insert: restrições do {@link CreateDemandRequest},
+     * nomes repetidos no arquivo ou já cadastrados, e referências inexistentes. As referências e os
+     * nomes são conferidos com uma consulta por conjunto de ids, não uma por linha.
+     */
+    private List<DemandImportErrorDto> validateImport(List<DemandCsvReader.Row> rows) {
+        Set<Long> projectIds = new HashSet<>();
+        Set<Long> robotIds = new HashSet<>();
+        Set<UUID> userIds = new HashSet<>();
+        Map<String, Integer> firstRowByName = new HashMap<>();
+        for (DemandCsvReader.Row row : rows) {
+            CreateDemandRequest request = row.request();
+            if (request == null) {
+                continue;
+            }
+            addIfPresent(projectIds, request.projectId());
+            addIfPresent(robotIds, request.robotId());
+            addIfPresent(userIds, request.focalPointId());
+            addIfPresent(userIds, request.analystId());
+            if (request.name() != null) {
+                firstRowByName.putIfAbsent(request.name(), row.row());
+            }
+        }
 
-        User analyst = userRepository.findById(request.analystId())
-                .orElseThrow(() -> new InvalidDemandUpdateException("Analista com ID " + request.analystId() + " não encontrado"));
+        Set<Long> existingProjects = lookup(projectIds, projectRepository::findExistingIds);
+        Set<Long> existingRobots = lookup(robotIds, robotRepository::findExistingIds);
+        Set<UUID> existingUsers = lookup(userIds, userRepository::findExistingIds);
+        Set<String> takenNames = lookup(firstRowByName.keySet(), demandRepository::findExistingNames);
+
+        List<DemandImportErrorDto> errors = new ArrayList<>();
+        for (DemandCsvReader.Row row : rows) {
+            CreateDemandRequest request = row.request();
+            if (request == null) {
+                errors.add(new DemandImportErrorDto(row.row(), null, "Linha vazia", null));
+                continue;
+            }
 
-        Robot robot = robotRepository.findById(request.robotId())
-                .orElseThrow(() -> new InvalidDemandUpdateException("Robot com ID " + request.robotId() + " não encontrado"));
+            errors.addAll(row.errors());
+            Set<String> convertedWithError = new HashSet<>();
+            row.errors().forEach(error -> convertedWithError.add(error.field()));
+            for (ConstraintViolation<CreateDemandRequest> violation : validator.validate(request)) {
+                String field = violation.getPropertyPath().toString();
+                if (!convertedWithError.contains(field)) {
+                    errors.add(new DemandImportErrorDto(row.row(), field, violation.getMessage(),
+                            violation.getInvalidValue()));
+                }
+            }
 
-        existingDemand.setName(request.name());
-        existingDemand.setDocHours(request.docHours());
-        existingDemand.setDevHours(request.devHours());
-        existingDemand.setType(request.type());
-        existingDemand.setDescription(request.description());
-        existingDemand.setFocalPoint(focalPoint);
-        existingDemand.setAnalyst(analyst);
-        existingDemand.setProject(project);
-        existingDemand.setStatus(request.status());
-        existingDemand.setOpenedAt(request.openedAt());
-        existingDemand.setStartAt(request.startAt());
-        existingDemand.setEndsAt(request.endsAt());
-        existingDemand.setEndedAt(request.endedAt());
-        existingDemand.setROI(request.roi());
-        existingDemand.setRobot(robot);
-        existingDemand.setClient(request.client());
-        existingDemand.setService(request.service());
+            if (request.name() != null) {
+                if (takenNames.contains(request.name())) {
+                    errors.add(new DemandImportErrorDto(row.row(), "name",
+                            "Demanda com o nome '" + request.name() + "' já existe", request.name()));
+                } else if (firstRowByName.get(request.name()) != row.row()) {
+                    errors.add(new DemandImportErrorDto(row.row(), "name",
+                            "Nome repetido na linha " + firstRowByName.get(request.name()), request.name()));
+                }
+            }
+            if (request.projectId() != null && !existingProjects.contains(request.projectId())) {
+                errors.add(new DemandImportErrorDto(row.row(), "projectId",
+                        "Projeto com ID " + request.projectId() + " não encontrado", request.projectId()));
+            }
+            if (request.focalPointId() != null && !existingUsers.contains(request.focalPointId())) {
+                errors.add(new DemandImportErrorDto(row.row(), "focalPointId",
+                        "Ponto focal com ID " + request.focalPointId() + " não encontrado", request.focalPointId()));
+            }
+            if (request.analystId() != null && !existingUsers.contains(request.analystId())) {
+                errors.add(new DemandImportErrorDto(row.row(), "analystId",
+                        "Analista com ID " + request.analystId() + " não encontrado", request.analystId()));
+            }
+            if (request.robotId() != null && !existingRobots.contains(request.robotId())) {
+                errors.add(new DemandImportErrorDto(row.row(), "robotId",
+                        "Robot com ID " + request.robotId() + " não encontrado", request.robotId()));
+            }
+        }
+        return errors;
+    }
 
-        Demand savedDemand = demandRepository.save(existingDemand);
-        return convertToDto(savedDemand);
+    private static <T> void addIfPresent(Set<T> values, T value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    private static <T> Set<T> lookup(Collection<T> values, Function<Collection<T>, List<T>> query) {
+        Set<T> found = new HashSet<>();
+        List<T> pending = new ArrayList<>(values);
+        for (int start = 0; start < pending.size(); start += IMPORT_LOOKUP_SIZE) {
+            found.addAll(query.apply(pending.subList(start, Math.min(start + IMPORT_LOOKUP_SIZE, pending.size()))));
+        }
+        return found;
     }
 
     @Override
     @Transactional(readOnly = true)
     public DemandDto findById(Long id) {
-        Demand demand = demandRepository.findById(id)
+        Demand demand = demandRepository.findWithRelationsById(id)
                 .orElseThrow(() -> new DemandNotFoundException("Demanda com ID " + id + " não encontrada"));
         return convertToDto(demand);
     }
@@ -233,6 +425,62 @@ public class DemandServiceImpl implements DemandService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<DemandDto> queryDemands(String search, DemandStatus status, ServiceType type, UUID analystId,
+                                                 UUID focalPointId, Long projectId, Long clientId, Long robotId,
+                                                 Long client, Long service, String cursor, int limit,
+                                                 boolean includeTotal) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Long afterId = decodeCursor(cursor);
+
+        Specification<Demand> filters = Specification.allOf(
+                DemandSpecifications.textContains(search),
+                DemandSpecifications.hasStatus(status),
+                DemandSpecifications.hasType(type),
+                DemandSpecifications.hasAnalyst(analystId),
+                DemandSpecifications.hasFocalPoint(focalPointId),
+                DemandSpecifications.hasProject(projectId),
+                DemandSpecifications.hasProjectClient(clientId),
+                DemandSpecifications.hasRobot(robotId),
+                DemandSpecifications.hasClient(client),
+                DemandSpecifications.hasService(service)
+        );
+
+        // Uma linha a mais indica se existe próxima página sem precisar contar
+        List<Demand> rows = demandRepository.findBy(
+                filters.and(DemandSpecifications.idBefore(afterId)),
+                query -> query.sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                        .limit(size + 1)
+                        .project(DEMAND_RELATIONS)
+                        .all()
+        );
+        Long total = includeTotal ? demandRepository.count(filters) : null;
+
+        boolean hasNext = rows.size() > size;
+        List<Demand> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            String lastId = String.valueOf(page.getLast().getId());
+            nextCursor = new KeysetCursor(lastId, lastId).encode();
+        }
+
+        return new CursorPageDto<>(page.stream().map(this::convertToDto).toList(), nextCursor, hasNext, total);
+    }
+
+    private Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        try {
+            return Long.parseLong(position.id());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido", e);
+        }
+    }
+
     private DemandDto convertToDto(Demand demand) {
         SubmitterInfoDto focalPointDto = null;
         if (demand.getFocalPoint() != null) {
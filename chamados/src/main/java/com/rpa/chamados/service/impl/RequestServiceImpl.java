@@ -2,19 +2,28 @@ package com.rpa.chamados.service.impl;
 
 import com.rpa.chamados.controller.dto.*;
 import com.rpa.chamados.domain.model.*;
+import com.rpa.chamados.domain.model.enums.CounterDimension;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+import com.rpa.chamados.domain.model.enums.TimelineGranularity;
 import com.rpa.chamados.exception.InvalidJwtTokenException;
 import com.rpa.chamados.repository.RequestRepository;
+import com.rpa.chamados.search.RequestSearchIndex;
 import com.rpa.chamados.service.AuthenticationService;
+import com.rpa.chamados.service.DashboardCounterService;
 import com.rpa.chamados.service.RequestService;
 import com.rpa.chamados.service.UserService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -24,21 +33,66 @@ import java.util.stream.Collectors;
 @Transactional
 public class RequestServiceImpl implements RequestService {
 
+    private static final int MAX_RECENT_CALLS = 100;
+    private static final int DASHBOARD_RECENT_CALLS = 5;
+    private static final int DASHBOARD_TOP_USERS = 5;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_TIMELINE_PERIODS = 366;
+
     private final RequestRepository repository;
     private final AuthenticationService authenticationService;
     private final UserService userService;
+    private final DashboardCounterService dashboardCounterService;
+    private final RequestSearchIndex requestSearchIndex;
 
-    public RequestServiceImpl(RequestRepository repository, AuthenticationService authenticationService,UserService userService) {
+    public RequestServiceImpl(RequestRepository repository, AuthenticationService authenticationService,UserService userService,
+                              DashboardCounterService dashboardCounterService, RequestSearchIndex requestSearchIndex) {
         this.repository = repository;
         this.authenticationService = authenticationService;
         this.userService = userService;
+        this.dashboardCounterService = dashboardCounterService;
+        this.requestSearchIndex = requestSearchIndex;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<RequestDto> getCalls(String cursor, int limit, boolean includeTotal) {
+        int size = pageSize(limit);
+        KeysetCursor position = decodeCursor(cursor);
+        Pageable window = PageRequest.of(0, size + 1);
+
+        List<Request> rows = position == null
+            ? repository.findLatest(window)
+            : repository.findLatestBefore(LocalDateTime.parse(position.sortValue()), UUID.fromString(position.id()), window);
+        Long total = includeTotal ? repository.count() : null;
+
+        log.debug("Fetched page of {} requests (cursor: {})", Math.min(rows.size(), size), cursor != null);
+        return toCursorPage(rows, size, total);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<RequestDto> getAllCalls() {
-        log.debug("Fetching all requests");
-        return repository.findAll().stream()
+    public CursorPageDto<RequestSummaryDto> getCallSummaries(String cursor, int limit, boolean includeTotal,
+                                                             Set<String> fields) {
+        Set<String> selected = summaryFields(fields);
+        int size = pageSize(limit);
+        KeysetCursor position = decodeCursor(cursor);
+        Pageable window = PageRequest.of(0, size + 1);
+
+        List<RequestSummaryDto> rows = position == null
+            ? repository.findLatestSummaries(window)
+            : repository.findLatestSummariesBefore(LocalDateTime.parse(position.sortValue()), UUID.fromString(position.id()), window);
+        Long total = includeTotal ? repository.count() : null;
+
+        return toSummaryPage(rows, size, total, selected);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequestDto> getRecentCalls(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_RECENT_CALLS));
+        log.debug("Fetching {} most recent requests", size);
+        return repository.findLatest(PageRequest.of(0, size)).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
@@ -59,6 +113,8 @@ public class RequestServiceImpl implements RequestService {
             // TODO: Handle file uploads
             
             MelhoriaRequest saved = (MelhoriaRequest) repository.save(entity);
+            dashboardCounterService.recordCreated(saved);
+            requestSearchIndex.indexAfterCommit(saved);
             
             log.debug("Successfully created Melhoria request with ID: {}", saved.getId());
             return createSubmissionResponse(saved, "Solicitação de melhoria criada com sucesso!");
@@ -82,6 +138,8 @@ public class RequestServiceImpl implements RequestService {
             // TODO: Handle file uploads
             
             SustentacaoRequest saved = (SustentacaoRequest) repository.save(entity);
+            dashboardCounterService.recordCreated(saved);
+            requestSearchIndex.indexAfterCommit(saved);
             
             log.debug("Successfully created Sustentacao request with ID: {}", saved.getId());
             return createSubmissionResponse(saved, "Solicitação de sustentação criada com sucesso!");
@@ -103,6 +161,8 @@ public class RequestServiceImpl implements RequestService {
             NovoProjetoRequest entity = mapToEntity(request, submitterDto);
             
             NovoProjetoRequest saved = (NovoProjetoRequest) repository.save(entity);
+            dashboardCounterService.recordCreated(saved);
+            requestSearchIndex.indexAfterCommit(saved);
             
             log.debug("Successfully created Novo Projeto request with ID: {}", saved.getId());
             return createSubmissionResponse(saved, "Solicitação de novo projeto criada com sucesso!");
@@ -137,39 +197,53 @@ public class RequestServiceImpl implements RequestService {
 
     @Override
     public CallStatsDto getCallStats() {
-        List<Request> allRequests = repository.findAll();
-        
+        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
+        List<Object[]> breakdown = repository.getCallStatsBreakdown(weekAgo);
+
+        long total = 0;
+        long thisWeekCount = 0;
+        long melhoria = 0;
+        long sustentacao = 0;
+        long novoProjeto = 0;
+        Map<String, Integer> byCelula = new HashMap<>();
+        Map<String, Integer> byDepartment = new HashMap<>();
+        Map<String, Integer> byTechnology = new HashMap<>();
+
+        for (Object[] row : breakdown) {
+            Class<?> requestType = (Class<?>) row[0];
+            String celula = (String) row[1];
+            String department = (String) row[2];
+            String technology = (String) row[3];
+            int count = Math.toIntExact(((Number) row[4]).longValue());
+
+            total += count;
+            thisWeekCount += ((Number) row[5]).longValue();
+
+            if (MelhoriaRequest.class.equals(requestType)) {
+                melhoria += count;
+            } else if (SustentacaoRequest.class.equals(requestType)) {
+                sustentacao += count;
+            } else if (NovoProjetoRequest.class.equals(requestType)) {
+                novoProjeto += count;
+            }
+
+            if (celula != null) {
+                byCelula.merge(mapCelulaCode(celula), count, Integer::sum);
+            }
+            if (department != null) {
+                byDepartment.merge(department, count, Integer::sum);
+            }
+            if (technology != null) {
+                byTechnology.merge(technology, count, Integer::sum);
+            }
+        }
+
         CallStatsDto.ServiceTypeStatsDto serviceTypeStats = new CallStatsDto.ServiceTypeStatsDto(
-            (int) repository.countByServiceType(MelhoriaRequest.class),
-            (int) repository.countByServiceType(SustentacaoRequest.class),
-            (int) repository.countByServiceType(NovoProjetoRequest.class)
+            (int) melhoria,
+            (int) sustentacao,
+            (int) novoProjeto
         );
         
-        Map<String, Integer> byCelula = allRequests.stream()
-                .filter(r -> r.getCelula() != null)
-                .collect(Collectors.groupingBy(
-                    r -> mapCelulaCode(r.getCelula()),
-                    Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
-                ));
-        
-        Map<String, Integer> byDepartment = allRequests.stream()
-                .filter(r -> r.getUser() != null && r.getUser().getDepartment() != null)
-                .collect(Collectors.groupingBy(
-                    r -> r.getUser().getDepartment(),
-                    Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
-                ));
-
-        Map<String, Integer> byTechnology = allRequests.stream()
-                .map(Request::getTecnologiaAutomacao)
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(
-                        Function.identity(),
-                        Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
-                ));
-        
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        long thisWeekCount = repository.countRequestsThisWeek(weekAgo);
-        
         CallStatsDto.RecentActivityDto recentActivity = new CallStatsDto.RecentActivityDto(
             (int) thisWeekCount,
             4, // Mock data for last week
@@ -177,7 +251,7 @@ public class RequestServiceImpl implements RequestService {
         );
         
         return new CallStatsDto(
-            allRequests.size(),
+            (int) total,
             serviceTypeStats,
             byCelula,
             byDepartment,
@@ -189,16 +263,67 @@ public class RequestServiceImpl implements RequestService {
     }
 
     @Override
-    public Page<RequestDto> searchCalls(String search, String serviceType, String department, 
-                                       String technology, String celulaCode, String submittedBy, 
-                                       String company, String dateFrom, String dateTo, Pageable pageable) {
-        String serviceTypeParam = serviceType != null && !serviceType.equals("all") 
-            ? serviceType.toUpperCase().replace("-", "_") 
+    @Transactional(readOnly = true)
+    public CursorPageDto<RequestDto> searchCalls(String search, String serviceType, String department, 
+                                                 String technology, String celulaCode, String submittedBy, 
+                                                 String company, String dateFrom, String dateTo,
+                                                 String cursor, int limit, boolean includeTotal) {
+        String serviceTypeParam = normalizeServiceType(serviceType);
+
+        int size = pageSize(limit);
+        if (search != null && !search.isBlank()) {
+            CursorPageDto<RequestDto> ranked = searchRanked(search, serviceTypeParam, department, technology, cursor, size,
+                includeTotal, ids -> repository.findByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Request::getId, this::mapToDto)));
+            if (ranked != null) {
+                return ranked;
+            }
+        }
+
+        KeysetCursor position = decodeCursor(cursor);
+        List<Request> rows = repository.searchRequestsAfter(
+            search, serviceTypeParam, department, technology,
+            position != null ? LocalDateTime.parse(position.sortValue()) : null,
+            position != null ? UUID.fromString(position.id()) : null,
+            PageRequest.of(0, size + 1)
+        );
+        Long total = includeTotal
+            ? repository.countSearchRequests(search, serviceTypeParam, department, technology)
             : null;
-            
-        Page<Request> results = repository.searchRequests(search, serviceTypeParam, department, technology, pageable);
-        
-        return results.map(this::mapToDto);
+
+        return toCursorPage(rows, size, total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<RequestSummaryDto> searchCallSummaries(String search, String serviceType, String department,
+                                                                String technology, String cursor, int limit,
+                                                                boolean includeTotal, Set<String> fields) {
+        Set<String> selected = summaryFields(fields);
+        String serviceTypeParam = normalizeServiceType(serviceType);
+
+        int size = pageSize(limit);
+        if (search != null && !search.isBlank()) {
+            CursorPageDto<RequestSummaryDto> ranked = searchRanked(search, serviceTypeParam, department, technology, cursor,
+                size, includeTotal, ids -> repository.findSummariesByIdIn(ids).stream()
+                    .collect(Collectors.toMap(summary -> UUID.fromString(summary.id()), summary -> summary.select(selected))));
+            if (ranked != null) {
+                return ranked;
+            }
+        }
+
+        KeysetCursor position = decodeCursor(cursor);
+        List<RequestSummaryDto> rows = repository.searchSummariesAfter(
+            search, serviceTypeParam, department, technology,
+            position != null ? LocalDateTime.parse(position.sortValue()) : null,
+            position != null ? UUID.fromString(position.id()) : null,
+            PageRequest.of(0, size + 1)
+        );
+        Long total = includeTotal
+            ? repository.countSearchRequests(search, serviceTypeParam, department, technology)
+            : null;
+
+        return toSummaryPage(rows, size, total, selected);
     }
 
     @Override
@@ -209,12 +334,15 @@ public class RequestServiceImpl implements RequestService {
         try {
             UUID uuid = UUID.fromString(id);
             
-            if (!repository.existsById(uuid)) {
-                log.error("Request not found for deletion with ID: {}", id);
-                throw new RuntimeException("Solicitação não encontrada com ID: " + id);
-            }
+            Request entity = repository.findById(uuid)
+                    .orElseThrow(() -> {
+                        log.error("Request not found for deletion with ID: {}", id);
+                        return new RuntimeException("Solicitação não encontrada com ID: " + id);
+                    });
             
-            repository.deleteById(uuid);
+            repository.delete(entity);
+            dashboardCounterService.recordDeleted(entity);
+            requestSearchIndex.removeAfterCommit(uuid);
             log.debug("Successfully deleted request with ID: {}", id);
             
         } catch (IllegalArgumentException e) {
@@ -223,6 +351,25 @@ public class RequestServiceImpl implements RequestService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequestSummaryDto> getRecentCallSummaries(int limit, Set<String> fields) {
+        Set<String> selected = summaryFields(fields);
+        int size = Math.max(1, Math.min(limit, MAX_RECENT_CALLS));
+        return repository.findLatestSummaries(PageRequest.of(0, size)).stream()
+                .map(summary -> summary.select(selected))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequestSummaryDto> getCallSummariesByUser(String userId, Set<String> fields) {
+        Set<String> selected = summaryFields(fields);
+        return repository.findSummariesBySubmittedBy(userId).stream()
+                .map(summary -> summary.select(selected))
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<RequestDto> getCallsByUser(String userId) {
@@ -237,12 +384,10 @@ public class RequestServiceImpl implements RequestService {
     @Transactional(readOnly = true)
     public Map<String, Long> getDepartmentStats() {
         log.debug("Calculating department statistics");
-        List<Request> allRequests = repository.findAll();
-        return allRequests.stream()
-                .filter(r -> r.getUser() != null && r.getUser().getDepartment() != null)
-                .collect(Collectors.groupingBy(
-                    r -> r.getUser().getDepartment(),
-                    Collectors.counting()
+        return repository.countByDepartment().stream()
+                .collect(Collectors.toMap(
+                    row -> (String) row[0],
+                    row -> (Long) row[1]
                 ));
     }
 
@@ -265,56 +410,93 @@ public class RequestServiceImpl implements RequestService {
     @Transactional(readOnly = true)
     public List<UserTicketMetricsDto> getUserTicketMetrics() {
         log.debug("Calculating user ticket metrics");
-        
-        List<Request> allRequests = repository.findAll();
-        
-        Map<String, List<Request>> requestsByUser = allRequests.stream()
-                .filter(r -> r.getUser() != null)
-                .collect(Collectors.groupingBy(r -> r.getUser().getId().toString()));
-        
-        List<UserTicketMetricsDto> metrics = new ArrayList<>();
-        
-        for (Map.Entry<String, List<Request>> entry : requestsByUser.entrySet()) {
-            String userId = entry.getKey();
-            List<Request> userRequests = entry.getValue();
-            
-            if (!userRequests.isEmpty()) {
-                User userInfo = userRequests.getFirst().getUser();
-                
-                Map<String, Long> ticketsByServiceType = userRequests.stream()
-                        .collect(Collectors.groupingBy(
-                                r -> r.getServiceType().name(),
-                                Collectors.counting()
-                        ));
-                
-                Optional<Request> mostRecentRequest = userRequests.stream()
-                        .max(Comparator.comparing(Request::getCreatedAt));
-                
-                Double avgResolutionTime = calculateAverageResolutionTime(userRequests);
-                
-                UserTicketMetricsDto metric = new UserTicketMetricsDto(
-                    userId,
-                    userInfo.getName(),
-                    userInfo.getDepartment(),
-                    userRequests.size(),
-                    ticketsByServiceType,
-                    mostRecentRequest.map(Request::getCreatedAt).orElse(null),
-                    avgResolutionTime != null ? avgResolutionTime : 0.0
-                );
-                
-                metrics.add(metric);
+
+        List<UserTicketMetricsDto> metrics = toUserTicketMetrics(repository.getUserTicketMetricsByType());
+        metrics.sort(Comparator.comparingLong(UserTicketMetricsDto::totalTickets).reversed()
+                .thenComparing(UserTicketMetricsDto::userId));
+
+        log.debug("Generated metrics for {} users", metrics.size());
+        return metrics;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserTicketMetricsDto> getTopUserTicketMetrics(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("O limite deve ser maior que zero");
+        }
+        log.debug("Calculating ticket metrics for the top {} users", limit);
+
+        List<UUID> topUserIds = repository.findTopSubmitterIds(PageRequest.of(0, limit));
+        if (topUserIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, UserTicketMetricsDto> byUser = toUserTicketMetrics(repository.getUserTicketMetricsByType(topUserIds))
+                .stream()
+                .collect(Collectors.toMap(UserTicketMetricsDto::userId, Function.identity()));
+
+        // Mantém a ordem do ranking calculado no banco
+        return topUserIds.stream()
+                .map(id -> byUser.get(id.toString()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Consolida as linhas (usuário, tipo) em uma métrica por usuário. Não há data de resolução
+     * nas solicitações, então a média em horas é só o intervalo entre a criação e a última
+     * atualização de cada uma; qualquer edição posterior o aumenta.
+     */
+    private List<UserTicketMetricsDto> toUserTicketMetrics(List<Object[]> rows) {
+        Map<UUID, UserTicketAccumulator> byUser = new LinkedHashMap<>();
+
+        for (Object[] row : rows) {
+            UserTicketAccumulator accumulator = byUser.computeIfAbsent((UUID) row[0],
+                    id -> new UserTicketAccumulator((String) row[1], (String) row[2]));
+            ServiceType serviceType = ServiceType.of((Class<?>) row[3]);
+            long count = ((Number) row[4]).longValue();
+            LocalDateTime lastSubmission = (LocalDateTime) row[5];
+
+            if (serviceType != null) {
+                accumulator.byServiceType.merge(serviceType.name(), count, Long::sum);
+            }
+            accumulator.total += count;
+            if (row[6] != null) {
+                accumulator.secondsToLastUpdate += ((Number) row[6]).doubleValue();
+            }
+            if (lastSubmission != null
+                    && (accumulator.lastSubmission == null || lastSubmission.isAfter(accumulator.lastSubmission))) {
+                accumulator.lastSubmission = lastSubmission;
             }
         }
-        
-        metrics.sort((a, b) -> Long.compare(b.totalTickets(), a.totalTickets()));
-        
-        log.debug("Generated metrics for {} users", metrics.size());
+
+        List<UserTicketMetricsDto> metrics = new ArrayList<>(byUser.size());
+        byUser.forEach((userId, accumulator) -> metrics.add(new UserTicketMetricsDto(
+                userId.toString(),
+                accumulator.name,
+                accumulator.department,
+                accumulator.total,
+                accumulator.byServiceType,
+                accumulator.lastSubmission,
+                accumulator.total > 0 ? accumulator.secondsToLastUpdate / accumulator.total / 3600.0 : 0.0
+        )));
         return metrics;
     }
-    
-    private Double calculateAverageResolutionTime(List<Request> requests) {
-        // This is a placeholder implementation as we don't have resolution timestamp
-        return null;
+
+    private static final class UserTicketAccumulator {
+
+        private final String name;
+        private final String department;
+        private final Map<String, Long> byServiceType = new HashMap<>();
+        private long total;
+        private double secondsToLastUpdate;
+        private LocalDateTime lastSubmission;
+
+        private UserTicketAccumulator(String name, String department) {
+            this.name = name;
+            this.department = department;
+        }
     }
 
     private NovoProjetoRequest mapToEntity(CreateNovoProjetoRequest dto, SubmitterInfoDto submitterDto) {
@@ -505,8 +687,8 @@ public class RequestServiceImpl implements RequestService {
             temDocumentacao = melhoriaRequest.getTemDocumentacao();
             usuarioAutomacao = melhoriaRequest.getUsuarioAutomacao();
             servidorAutomacao = melhoriaRequest.getServidorAutomacao();
-            documentacaoFiles = melhoriaRequest.getDocumentacaoFiles();
-            evidenciasFiles = melhoriaRequest.getEvidenciasFiles();
+            documentacaoFiles = new ArrayList<>(melhoriaRequest.getDocumentacaoFiles());
+            evidenciasFiles = new ArrayList<>(melhoriaRequest.getEvidenciasFiles());
         } else if (entity instanceof SustentacaoRequest sustentacaoRequest) {
             idCliente = sustentacaoRequest.getIdCliente();
             celula = sustentacaoRequest.getCelula();
@@ -516,8 +698,8 @@ public class RequestServiceImpl implements RequestService {
             temDocumentacao = sustentacaoRequest.getTemDocumentacao();
             usuarioAutomacao = sustentacaoRequest.getUsuarioAutomacao();
             servidorAutomacao = sustentacaoRequest.getServidorAutomacao();
-            documentacaoFiles = sustentacaoRequest.getDocumentacaoFiles();
-            evidenciasFiles = sustentacaoRequest.getEvidenciasFiles();
+            documentacaoFiles = new ArrayList<>(sustentacaoRequest.getDocumentacaoFiles());
+            evidenciasFiles = new ArrayList<>(sustentacaoRequest.getEvidenciasFiles());
         }
         
         return new RequestDto(
@@ -584,9 +766,12 @@ public class RequestServiceImpl implements RequestService {
             throw new RuntimeException("Não é possível alterar o tipo de serviço de uma solicitação existente");
         }
         
+        Map<CounterDimension, String> previousCounterKeys = dashboardCounterService.dimensionKeys(entity);
         updateEntityByType(entity, request);
         
         Request updatedEntity = repository.save(entity);
+        dashboardCounterService.recordUpdated(previousCounterKeys, updatedEntity);
+        requestSearchIndex.indexAfterCommit(updatedEntity);
         
         log.debug("Successfully updated call with ID: {}", id);
         return mapToDto(updatedEntity);
@@ -756,7 +941,8 @@ public class RequestServiceImpl implements RequestService {
     public DashboardDataDto getDashboardData() {
         log.debug("Fetching consolidated dashboard data");
         
-        CallStatsDto callStats = getCallStats();
+        DashboardCountersDto counters = dashboardCounterService.getCounters();
+        CallStatsDto callStats = buildCallStats(counters);
         
         Map<String, Object> userStatsMap = userService.getUserStats();
         Long totalUsers = (Long) userStatsMap.get("totalUsers");
@@ -769,19 +955,11 @@ public class RequestServiceImpl implements RequestService {
                     DepartmentStatDto::department,
                     DepartmentStatDto::requestCount
                 ));
-        Map<String, Long> technologyStats = getTechnologyStats();
+        Map<String, Long> technologyStats = counters.byTechnology();
         
-        List<UserTicketMetricsDto> topUsersByTickets = getUserTicketMetrics()
-                .stream()
-                .sorted((a, b) -> Long.compare(b.totalTickets(), a.totalTickets()))
-                .limit(5)
-                .collect(Collectors.toList());
+        List<UserTicketMetricsDto> topUsersByTickets = getTopUserTicketMetrics(DASHBOARD_TOP_USERS);
         
-        List<RequestDto> recentCalls = getAllCalls()
-                .stream()
-                .sorted((a, b) -> b.createdAt().compareTo(a.createdAt()))
-                .limit(5)
-                .collect(Collectors.toList());
+        List<RequestDto> recentCalls = getRecentCalls(DASHBOARD_RECENT_CALLS);
         
         log.debug("Successfully consolidated dashboard data - totalUsers: {}, activeUsers: {}, newUsersThisMonth: {}", 
                 totalUsers, activeUsers, newUsersThisMonth);
@@ -799,57 +977,248 @@ public class RequestServiceImpl implements RequestService {
         );
     }
 
+    @Override
+    public DashboardCountersDto rebuildDashboardCounters() {
+        log.info("Rebuilding dashboard counters on request");
+        return dashboardCounterService.rebuild();
+    }
+
+    private CallStatsDto buildCallStats(DashboardCountersDto counters) {
+        Map<String, Long> byServiceType = counters.byServiceType();
+        CallStatsDto.ServiceTypeStatsDto serviceTypeStats = new CallStatsDto.ServiceTypeStatsDto(
+            byServiceType.getOrDefault(ServiceType.MELHORIA.name(), 0L).intValue(),
+            byServiceType.getOrDefault(ServiceType.SUSTENTACAO.name(), 0L).intValue(),
+            byServiceType.getOrDefault(ServiceType.NOVO_PROJETO.name(), 0L).intValue()
+        );
+
+        Map<String, Integer> byCelula = new HashMap<>();
+        counters.byCelula().forEach((celula, count) -> byCelula.merge(mapCelulaCode(celula), count.intValue(), Integer::sum));
+
+        LocalDate today = LocalDate.now();
+        long thisWeek = counters.byWeek().getOrDefault(dashboardCounterService.weekKey(today), 0L);
+        long lastWeek = counters.byWeek().getOrDefault(dashboardCounterService.weekKey(today.minusWeeks(1)), 0L);
+        double percentChange = lastWeek == 0 ? 0.0 : (thisWeek - lastWeek) * 100.0 / lastWeek;
+
+        return new CallStatsDto(
+            (int) counters.total(),
+            serviceTypeStats,
+            byCelula,
+            toIntegerMap(counters.byDepartment()),
+            toIntegerMap(counters.byTechnology()),
+            50, // Mock active users count
+            2.5,
+            new CallStatsDto.RecentActivityDto((int) thisWeek, (int) lastWeek, percentChange)
+        );
+    }
+
+    private Map<String, Integer> toIntegerMap(Map<String, Long> counts) {
+        Map<String, Integer> result = new HashMap<>();
+        counts.forEach((key, count) -> result.put(key, count.intValue()));
+        return result;
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<TimelineStatsDto> getTimelineStats(int weeks) {
-        log.debug("Calculating timeline statistics for {} weeks", weeks);
-        
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusWeeks(weeks);
-        
-        List<Request> allRequests = repository.findByCreatedAtBetween(startDate, endDate);
-        
-        Map<Integer, List<Request>> requestsByWeek = allRequests.stream()
-                .collect(Collectors.groupingBy(request -> {
-                    LocalDateTime createdAt = request.getCreatedAt();
-                    int weekOfYear = createdAt.getDayOfYear() / 7;
-                    return weekOfYear;
-                }));
-        
-        List<TimelineStatsDto> timelineStats = new ArrayList<>();
-        
-        for (int i = 0; i < weeks; i++) {
-            LocalDateTime weekEnd = endDate.minusWeeks(i);
-            LocalDateTime weekStart = weekEnd.minusWeeks(1);
-            
-            int weekKey = weekEnd.getDayOfYear() / 7;
-            List<Request> weekRequests = requestsByWeek.getOrDefault(weekKey, Collections.emptyList());
-            
-            Map<String, Long> byServiceType = weekRequests.stream()
-                    .collect(Collectors.groupingBy(
-                            r -> r.getServiceType().name(),
-                            Collectors.counting()
-                    ));
-            
-            String period = String.format("Sem %d", weeks - i);
-            
-            TimelineStatsDto weekStats = new TimelineStatsDto(
-                    period,
-                    weekStart.toLocalDate(),
-                    weekEnd.toLocalDate(),
-                    weekRequests.size(),
-                    byServiceType
-            );
-            
-            timelineStats.add(weekStats);
+    public List<TimelineStatsDto> getTimelineStats(int periods, TimelineGranularity granularity) {
+        int count = Math.max(1, Math.min(periods, MAX_TIMELINE_PERIODS));
+        log.debug("Calculating timeline statistics for {} periods by {}", count, granularity);
+
+        LocalDate current = periodStart(LocalDate.now(), granularity);
+        LocalDate first = shiftPeriods(current, granularity, 1 - count);
+        LocalDateTime from = first.atStartOfDay();
+        LocalDateTime to = shiftPeriods(current, granularity, 1).atStartOfDay();
+
+        List<Object[]> rows = switch (granularity) {
+            case DAY -> repository.countByDayAndType(from, to);
+            case WEEK -> repository.countByWeekAndType(from, to);
+            case MONTH -> repository.countByMonthAndType(from, to);
+        };
+
+        // Série densa: todo período da janela aparece, com zero para os tipos sem solicitações
+        Map<LocalDate, Map<String, Long>> byPeriod = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Long> byServiceType = new LinkedHashMap<>();
+            for (ServiceType serviceType : ServiceType.values()) {
+                byServiceType.put(serviceType.name(), 0L);
+            }
+            byPeriod.put(shiftPeriods(first, granularity, i), byServiceType);
         }
-        
-        Collections.reverse(timelineStats);
-        
+
+        for (Object[] row : rows) {
+            LocalDate periodStart = ((LocalDateTime) row[0]).toLocalDate();
+            ServiceType serviceType = ServiceType.of((Class<?>) row[1]);
+            Map<String, Long> byServiceType = byPeriod.get(periodStart);
+            if (byServiceType != null && serviceType != null) {
+                byServiceType.merge(serviceType.name(), ((Number) row[2]).longValue(), Long::sum);
+            }
+        }
+
+        List<TimelineStatsDto> timelineStats = new ArrayList<>(count);
+        int index = 1;
+        for (Map.Entry<LocalDate, Map<String, Long>> entry : byPeriod.entrySet()) {
+            LocalDate start = entry.getKey();
+            long total = entry.getValue().values().stream().mapToLong(Long::longValue).sum();
+            timelineStats.add(new TimelineStatsDto(
+                    periodLabel(start, granularity, index++),
+                    start,
+                    shiftPeriods(start, granularity, 1).minusDays(1),
+                    total,
+                    entry.getValue()
+            ));
+        }
+
         log.debug("Generated timeline statistics for {} periods", timelineStats.size());
         return timelineStats;
     }
 
+    private LocalDate periodStart(LocalDate date, TimelineGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> date;
+            case WEEK -> date.with(DayOfWeek.MONDAY);
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    private LocalDate shiftPeriods(LocalDate periodStart, TimelineGranularity granularity, long amount) {
+        return switch (granularity) {
+            case DAY -> periodStart.plusDays(amount);
+            case WEEK -> periodStart.plusWeeks(amount);
+            case MONTH -> periodStart.plusMonths(amount);
+        };
+    }
+
+    private String periodLabel(LocalDate start, TimelineGranularity granularity, int index) {
+        return switch (granularity) {
+            case DAY -> start.format(DateTimeFormatter.ofPattern("dd/MM"));
+            case WEEK -> String.format("Sem %d", index);
+            case MONTH -> start.format(DateTimeFormatter.ofPattern("MM/yyyy"));
+        };
+    }
+
+    /**
+     * Busca textual pelo índice invertido: os ids chegam ordenados por relevância e as
+     * linhas são carregadas em uma única consulta por {@code loadById}. Devolve {@code null} se o índice
+     * falhar, para que a busca caia no JPQL.
+     */
+    private <T> CursorPageDto<T> searchRanked(String search, String serviceType, String department,
+                                              String technology, String cursor, int size, boolean includeTotal,
+                                              Function<List<UUID>, Map<UUID, T>> loadById) {
+        KeysetCursor position = null;
+        if (cursor != null && !cursor.isBlank()) {
+            position = KeysetCursor.decode(cursor);
+            try {
+                Float.parseFloat(position.sortValue());
+                UUID.fromString(position.id());
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Cursor de paginação inválido", e);
+            }
+        }
+
+        RequestSearchIndex.SearchPage page;
+        try {
+            page = requestSearchIndex.search(search, serviceType, department, technology, position, size + 1, includeTotal);
+        } catch (IOException e) {
+            log.error("Search index unavailable, falling back to database search: {}", e.getMessage());
+            return null;
+        }
+
+        List<RequestSearchIndex.SearchHit> hits = page.hits();
+        boolean hasNext = hits.size() > size;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+        }
+
+        Map<UUID, T> loaded = loadById.apply(hits.stream().map(RequestSearchIndex.SearchHit::id).toList());
+
+        List<T> items = hits.stream()
+                .map(hit -> loaded.get(hit.id()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            RequestSearchIndex.SearchHit last = hits.getLast();
+            nextCursor = new KeysetCursor(Float.toString(last.score()), last.id().toString()).encode();
+        }
+
+        return new CursorPageDto<>(items, nextCursor, hasNext, page.total());
+    }
+
+    private int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private KeysetCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        try {
+            LocalDateTime.parse(position.sortValue());
+            UUID.fromString(position.id());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido", e);
+        }
+        return position;
+    }
+
+    private String normalizeServiceType(String serviceType) {
+        return serviceType != null && !serviceType.equals("all")
+            ? serviceType.toUpperCase().replace("-", "_")
+            : null;
+    }
+
+    /**
+     * Valida o parâmetro {@code fields}. Sem campos informados, devolve todos os do resumo.
+     */
+    private Set<String> summaryFields(Set<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return RequestSummaryDto.FIELDS;
+        }
+
+        for (String field : fields) {
+            if (!RequestSummaryDto.FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Campo inválido em fields: " + field
+                    + ". Campos disponíveis: " + String.join(", ", new TreeSet<>(RequestSummaryDto.FIELDS)));
+            }
+        }
+        return fields;
+    }
+
+    private CursorPageDto<RequestSummaryDto> toSummaryPage(List<RequestSummaryDto> rows, int size, Long total,
+                                                           Set<String> fields) {
+        boolean hasNext = rows.size() > size;
+        List<RequestSummaryDto> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            RequestSummaryDto last = page.getLast();
+            nextCursor = new KeysetCursor(last.createdAt().toString(), last.id()).encode();
+        }
+
+        List<RequestSummaryDto> items = page.stream()
+                .map(summary -> summary.select(fields))
+                .collect(Collectors.toList());
+        return new CursorPageDto<>(items, nextCursor, hasNext, total);
+    }
+
+    private CursorPageDto<RequestDto> toCursorPage(List<Request> rows, int size, Long total) {
+        boolean hasNext = rows.size() > size;
+        List<Request> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Request last = page.getLast();
+            nextCursor = new KeysetCursor(last.getCreatedAt().toString(), last.getId().toString()).encode();
+        }
+
+        List<RequestDto> items = page.stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+        return new CursorPageDto<>(items, nextCursor, hasNext, total);
+    }
+
     private String mapCelulaCode(String celulaCode) {
         return switch (celulaCode) {
             case "99" -> "099 - Tesouraria";
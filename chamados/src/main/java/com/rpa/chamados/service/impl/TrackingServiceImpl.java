@@ -12,11 +12,13 @@ import com.rpa.chamados.exception.TrackingNotFoundException;
 import com.rpa.chamados.repository.DemandRepository;
 import com.rpa.chamados.repository.UserRepository;
 import com.rpa.chamados.repository.TrackingRepository;
+import com.rpa.chamados.service.DemandHoursService;
 import com.rpa.chamados.service.DemandService;
 import com.rpa.chamados.service.TrackingService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,15 +30,18 @@ public class TrackingServiceImpl implements TrackingService {
     private final DemandRepository demandRepository;
     private final UserRepository userRepository;
     private final DemandService demandService;
+    private final DemandHoursService demandHoursService;
 
     public TrackingServiceImpl(TrackingRepository trackingRepository,
                              DemandRepository demandRepository,
                              UserRepository userRepository,
-                             DemandService demandService) {
+                             DemandService demandService,
+                             DemandHoursService demandHoursService) {
         this.trackingRepository = trackingRepository;
         this.demandRepository = demandRepository;
         this.userRepository = userRepository;
         this.demandService = demandService;
+        this.demandHoursService = demandHoursService;
     }
 
     @Override
@@ -62,6 +67,7 @@ public class TrackingServiceImpl implements TrackingService {
                 .build();
 
         Tracking savedTracking = trackingRepository.save(tracking);
+        demandHoursService.recordCreated(savedTracking);
         return convertToDto(savedTracking);
     }
 
@@ -76,6 +82,10 @@ public class TrackingServiceImpl implements TrackingService {
         User submitter = userRepository.findById(request.submitterId())
                 .orElseThrow(() -> new InvalidTrackingUpdateException("Submitter com ID " + request.submitterId() + " não encontrado"));
 
+        Long previousDemandId = existingTracking.getDemand() != null ? existingTracking.getDemand().getId() : null;
+        Nature previousNature = existingTracking.getNature();
+        Double previousHours = existingTracking.getHours();
+
         existingTracking.setDemand(demand);
         existingTracking.setHours(request.hours());
         existingTracking.setNature(request.nature());
@@ -84,6 +94,7 @@ public class TrackingServiceImpl implements TrackingService {
         existingTracking.setSubmitter(submitter);
 
         Tracking savedTracking = trackingRepository.save(existingTracking);
+        demandHoursService.recordUpdated(previousDemandId, previousNature, previousHours, savedTracking);
         return convertToDto(savedTracking);
     }
 
@@ -109,10 +120,10 @@ public class TrackingServiceImpl implements TrackingService {
 
     @Override
     public void deleteTrackingById(Long id) {
-        if (!trackingRepository.existsById(id)) {
-            throw new TrackingNotFoundException("Tracking com ID " + id + " não encontrado");
-        }
-        trackingRepository.deleteById(id);
+        Tracking tracking = trackingRepository.findById(id)
+                .orElseThrow(() -> new TrackingNotFoundException("Tracking com ID " + id + " não encontrado"));
+        trackingRepository.delete(tracking);
+        demandHoursService.recordDeleted(tracking);
     }
 
     @Override
@@ -145,15 +156,24 @@ public class TrackingServiceImpl implements TrackingService {
     @Override
     @Transactional(readOnly = true)
     public Double getTotalHoursByDemandId(Long demandId) {
-        Double total = trackingRepository.sumHoursByDemandId(demandId);
-        return total != null ? total : 0.0;
+        return demandHoursService.getHours(List.of(demandId)).getFirst().totalHours();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Double getTotalHoursByDemandIdAndNature(Long demandId, Nature nature) {
-        Double total = trackingRepository.sumHoursByDemandIdAndNature(demandId, nature);
-        return total != null ? total : 0.0;
+        return demandHoursService.getHours(List.of(demandId)).getFirst().hoursByNature().get(nature);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DemandHoursDto> getTotalHoursByDemandIds(Collection<Long> demandIds) {
+        return demandHoursService.getHours(demandIds);
+    }
+
+    @Override
+    public int rebuildDemandHours() {
+        return demandHoursService.rebuild();
     }
 
     private TrackingDto convertToDto(Tracking tracking) {
@@ -1,36 +1,98 @@
 package com.rpa.chamados.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.rpa.chamados.controller.dto.DepartmentStatDto;
 import com.rpa.chamados.controller.dto.SubmitterInfoDto;
 import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.domain.model.enums.ServiceType;
 import com.rpa.chamados.exception.UserNotFoundException;
+import com.rpa.chamados.repository.SubmitterInfoView;
+import com.rpa.chamados.repository.UserListVersion;
 import com.rpa.chamados.repository.UserRepository;
+import com.rpa.chamados.repository.UserSpecifications;
+import com.rpa.chamados.search.RequestSearchIndex;
+import com.rpa.chamados.service.DashboardCounterService;
 import com.rpa.chamados.service.UserService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @Transactional
 public class UserServiceImpl implements UserService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private static final int STREAM_FLUSH_EVERY = 500;
+
     private final UserRepository repository;
+    private final UserListVersion userListVersion;
+    private final ObjectMapper objectMapper;
+    private final RequestSearchIndex requestSearchIndex;
+    private final DashboardCounterService dashboardCounterService;
 
-    public UserServiceImpl(UserRepository repository) {
+    public UserServiceImpl(UserRepository repository, UserListVersion userListVersion, ObjectMapper objectMapper,
+                           RequestSearchIndex requestSearchIndex, DashboardCounterService dashboardCounterService) {
         this.repository = repository;
+        this.userListVersion = userListVersion;
+        this.objectMapper = objectMapper;
+        this.requestSearchIndex = requestSearchIndex;
+        this.dashboardCounterService = dashboardCounterService;
     }
 
     @Override
-    public List<SubmitterInfoDto> getFormRespondents() {
-        return repository.findAll().stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<SubmitterInfoDto> getFormRespondents(Pageable pageable) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by("name", "id");
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), sort);
+        return repository.findAllProjectedBy(page).map(this::mapToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long writeFormRespondents(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+             Stream<SubmitterInfoView> users = repository.streamAllBy()) {
+            generator.writeStartArray();
+            Iterator<SubmitterInfoView> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, mapToDto(iterator.next()));
+                if (++count % STREAM_FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+        }
+
+        log.debug("Streamed {} form respondents", count);
+        return count;
+    }
+
+    @Override
+    public String getFormRespondentsVersion() {
+        return userListVersion.current();
     }
 
     @Override
@@ -71,11 +133,45 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<SubmitterInfoDto> searchFormRespondents(String search, String department, String company, 
                                                        Boolean isActive, String preferredServiceType, 
                                                        String dateFrom, String dateTo, Pageable pageable) {
+        ServiceType serviceType = preferredServiceType != null && !preferredServiceType.isBlank()
+                && !preferredServiceType.equals("all")
+                ? ServiceType.from(preferredServiceType)
+                : null;
+        LocalDate from = parseDate(dateFrom);
+        LocalDate to = parseDate(dateTo);
+
+        Specification<User> specification = Specification.allOf(
+                UserSpecifications.nameOrEmailContains(search),
+                UserSpecifications.hasDepartment(department),
+                UserSpecifications.hasCompany(company),
+                UserSpecifications.isActive(isActive),
+                UserSpecifications.joinedFrom(from != null ? from.atStartOfDay() : null),
+                UserSpecifications.joinedBefore(to != null ? to.plusDays(1).atStartOfDay() : null),
+                UserSpecifications.submittedServiceType(serviceType)
+        );
+
+        // Ordem estável entre páginas quando o cliente não informa a ordenação
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by("name", "id");
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), sort);
 
-        return repository.findAll(pageable).map(this::mapToDto);
+        return repository.findBy(specification, query -> query.as(SubmitterInfoView.class).page(page))
+                .map(this::mapToDto);
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            // Aceita tanto "2025-01-31" quanto "2025-01-31T10:00:00"
+            return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data inválida: " + value, e);
+        }
     }
 
     @Override
@@ -91,17 +187,16 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<Map<String, Object>> getDepartmentAnalytics() {
-        List<String> departments = repository.findDistinctDepartments();
-        
-        return departments.stream()
-                .map(dept -> {
-                    List<User> deptUsers = repository.findByDepartment(dept);
+        return repository.getDepartmentAnalytics().stream()
+                .map(row -> {
+                    long totalUsers = ((Number) row[1]).longValue();
+                    long totalRequests = ((Number) row[3]).longValue();
                     Map<String, Object> analytics = new HashMap<>();
-                    analytics.put("department", dept);
-                    analytics.put("totalUsers", deptUsers.size());
-                    analytics.put("activeUsers", deptUsers.stream().mapToInt(u -> u.getIsActive() ? 1 : 0).sum());
-                    analytics.put("totalRequests", 0); // This would require joining with requests
-                    analytics.put("avgRequestsPerUser", 0.0);
+                    analytics.put("department", row[0]);
+                    analytics.put("totalUsers", totalUsers);
+                    analytics.put("activeUsers", ((Number) row[2]).longValue());
+                    analytics.put("totalRequests", totalRequests);
+                    analytics.put("avgRequestsPerUser", totalUsers > 0 ? (double) totalRequests / totalUsers : 0.0);
                     return analytics;
                 })
                 .collect(Collectors.toList());
@@ -118,6 +213,11 @@ public class UserServiceImpl implements UserService {
         
         if (existing.isPresent()) {
             User submitter = existing.get();
+            // Nome e departamento também estão nos documentos de busca das solicitações do usuário,
+            // e o departamento nos contadores do dashboard
+            String previousDepartment = submitter.getDepartment();
+            boolean searchFieldsChanged = !Objects.equals(submitter.getName(), submitterDto.name())
+                    || !Objects.equals(previousDepartment, submitterDto.department());
             // Update information if needed
             submitter.setName(submitterDto.name());
             submitter.setPhone(submitterDto.phone());
@@ -129,8 +229,13 @@ public class UserServiceImpl implements UserService {
             if (submitterDto.isActive() != null) {
                 submitter.setIsActive(submitterDto.isActive());
             }
-            
-            return mapToDto(repository.save(submitter));
+
+            User saved = repository.save(submitter);
+            dashboardCounterService.recordDepartmentChanged(saved.getId(), previousDepartment, saved.getDepartment());
+            if (searchFieldsChanged) {
+                requestSearchIndex.reindexUserAfterCommit(saved.getId());
+            }
+            return mapToDto(saved);
         } else {
             User newSubmitter = getSubmitterInfo(submitterDto);
 
@@ -166,6 +271,22 @@ public class UserServiceImpl implements UserService {
         return newSubmitter;
     }
 
+    private SubmitterInfoDto mapToDto(SubmitterInfoView view) {
+        return new SubmitterInfoDto(
+            view.getId().toString(),
+            view.getName(),
+            view.getEmail(),
+            view.getPhone(),
+            view.getDepartment(),
+            view.getCompany(),
+            view.getRole(),
+            view.getIsActive(),
+            view.getRequestsSubmitted(),
+            view.getLastActivity(),
+            view.getJoinedAt()
+        );
+    }
+
     private SubmitterInfoDto mapToDto(User entity) {
         return new SubmitterInfoDto(
             entity.getId().toString(),
@@ -0,0 +1,100 @@
+package com.rpa.chamados.search;
+
+import com.rpa.chamados.domain.model.Request;
+import com.rpa.chamados.repository.RequestRepository;
+import com.rpa.chamados.support.RequestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara a busca textual por JPQL (LIKE '%termo%') com o índice invertido em 500 mil
+ * solicitações. Roda só sob demanda: {@code mvn test -Dtest=RequestSearchBenchmarkTest -Dbenchmark=true}.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RequestSearchBenchmarkTest {
+
+    private static final String MARKER = "Benchmark";
+    private static final int ROWS = 500_000;
+    private static final String[] WORDS = {
+        "automação", "conciliação", "bancária", "relatório", "faturamento", "integração", "notas", "fiscais",
+        "cobrança", "extração", "planilha", "cadastro", "fornecedores", "pagamentos", "contábil", "folha",
+        "estoque", "pedidos", "boletos", "validação", "migração", "sistema", "legado", "portal"
+    };
+    private static final String[] TECHNOLOGIES = {"UiPath", "Power Automate", "Python", "Automation Anywhere"};
+
+    @Autowired
+    private RequestSearchIndex requestSearchIndex;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        new RequestFixtures(dataSource).jdbcTemplate().update("DELETE FROM requests WHERE submitted_by = ?", MARKER);
+        requestSearchIndex.rebuild();
+    }
+
+    @Test
+    void indexOutperformsLikeQueries() throws Exception {
+        seed();
+
+        long rebuildStart = System.nanoTime();
+        long indexed = requestSearchIndex.rebuild();
+        long rebuildMillis = (System.nanoTime() - rebuildStart) / 1_000_000;
+        assertTrue(indexed >= ROWS);
+
+        String[] terms = {"conciliação", "relatorio", "fatur", "integracao sap"};
+        for (String term : terms) {
+            String likeTerm = term.split(" ")[0];
+            long jpqlMicros = time(() -> requestRepository.searchRequestsAfter(
+                likeTerm, null, null, "UiPath", null, null, PageRequest.of(0, 20)));
+            long indexMicros = time(() -> requestSearchIndex.search(term, null, null, "UiPath", null, 21, false));
+
+            List<Request> jpql = requestRepository.searchRequestsAfter(likeTerm, null, null, "UiPath", null, null, PageRequest.of(0, 20));
+            RequestSearchIndex.SearchPage ranked = requestSearchIndex.search(term, null, null, "UiPath", null, 21, true);
+
+            System.out.printf("Search '%s' over %d rows: jpql=%d us (%d rows), index=%d us (%d rows, %d total)%n",
+                term, indexed, jpqlMicros, jpql.size(), indexMicros, ranked.hits().size(), ranked.total());
+        }
+        System.out.printf("Index rebuild over %d rows: %d ms%n", indexed, rebuildMillis);
+    }
+
+    private long time(Callable<?> action) throws Exception {
+        int iterations = 10;
+        action.call();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            action.call();
+        }
+        return (System.nanoTime() - start) / iterations / 1_000;
+    }
+
+    private void seed() {
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.now().minusYears(3);
+        new RequestFixtures(dataSource).insertRequests(ROWS, i -> {
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " "
+                + WORDS[random.nextInt(WORDS.length)] + " SAP " + i;
+            return RequestFixtures.request("MELHORIA", description, start.plusSeconds(i * 60L))
+                .withSubmittedBy(MARKER)
+                .withTechnology(TECHNOLOGIES[random.nextInt(TECHNOLOGIES.length)])
+                .withRobot("Robô " + WORDS[random.nextInt(WORDS.length)]);
+        });
+    }
+}
@@ -0,0 +1,187 @@
+package com.rpa.chamados.search;
+
+import com.rpa.chamados.controller.dto.KeysetCursor;
+import com.rpa.chamados.domain.model.MelhoriaRequest;
+import com.rpa.chamados.domain.model.Request;
+import com.rpa.chamados.domain.model.SustentacaoRequest;
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.repository.RequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private RequestRepository requestRepository;
+    private RequestSearchIndex index;
+    private User financeUser;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        requestRepository = mock(RequestRepository.class);
+        index = new RequestSearchIndex(requestRepository, indexDir.toString(), false);
+
+        financeUser = new User();
+        financeUser.setId(UUID.randomUUID());
+        financeUser.setName("Maria Conceição");
+        financeUser.setDepartment("Financeiro");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.destroy();
+    }
+
+    @Test
+    void matchesIgnoringAccentsAndCase() throws Exception {
+        Request request = index(new MelhoriaRequest(), "Automação da conciliação bancária", "UiPath");
+
+        assertEquals(List.of("automacao", "da", "conciliacao", "bancaria"), index.analyze("Automação da CONCILIAÇÃO bancária"));
+        assertEquals(List.of(request.getId()), ids("automacao"));
+        assertEquals(List.of(request.getId()), ids("CONCILIAÇÃO"));
+        assertEquals(List.of(request.getId()), ids("conceicao"));
+    }
+
+    @Test
+    void matchesPrefixesAndRanksExactTermsFirst() throws Exception {
+        Request prefixOnly = index(new MelhoriaRequest(), "Relatórios mensais", "Power Automate");
+        Request exact = index(new MelhoriaRequest(), "Relatório de vendas", "Power Automate");
+
+        assertEquals(Set.of(exact.getId(), prefixOnly.getId()), Set.copyOf(ids("relat")));
+        assertEquals(List.of(exact.getId(), prefixOnly.getId()), ids("relatorio"));
+    }
+
+    @Test
+    void appliesStructuredFilters() throws Exception {
+        Request melhoria = index(new MelhoriaRequest(), "Robô de faturamento", "UiPath");
+        index(new SustentacaoRequest(), "Robô de faturamento", "UiPath");
+        index(new MelhoriaRequest(), "Robô de faturamento", "Python");
+
+        RequestSearchIndex.SearchPage page = index.search("faturamento", "MELHORIA", "Financeiro", "UiPath", null, 10, true);
+
+        assertEquals(List.of(melhoria.getId()), page.hits().stream().map(RequestSearchIndex.SearchHit::id).toList());
+        assertEquals(1L, page.total());
+        assertTrue(index.search("faturamento", null, "Comercial", null, null, 10, false).hits().isEmpty());
+    }
+
+    @Test
+    void cursorWalksEveryHitOnce() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            index(new MelhoriaRequest(), "Integração SAP " + i, "UiPath");
+        }
+
+        Set<UUID> seen = new HashSet<>();
+        KeysetCursor cursor = null;
+        int pages = 0;
+        List<RequestSearchIndex.SearchHit> hits;
+        do {
+            hits = index.search("integracao sap", null, null, null, cursor, 10, false).hits();
+            hits.forEach(hit -> assertTrue(seen.add(hit.id()), "Duplicate hit " + hit.id()));
+            if (!hits.isEmpty()) {
+                RequestSearchIndex.SearchHit last = hits.getLast();
+                cursor = new KeysetCursor(Float.toString(last.score()), last.id().toString());
+            }
+            pages++;
+        } while (hits.size() == 10);
+
+        assertEquals(25, seen.size());
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void removalAndReopenKeepTheIndexInSync() throws Exception {
+        Request kept = index(new MelhoriaRequest(), "Extração de notas fiscais", "UiPath");
+        Request removed = index(new MelhoriaRequest(), "Extração de boletos", "UiPath");
+
+        index.removeAfterCommit(removed.getId());
+        assertEquals(List.of(kept.getId()), ids("extracao"));
+
+        index.commitPendingChanges();
+        index.destroy();
+        index = new RequestSearchIndex(requestRepository, indexDir.toString(), false);
+
+        assertEquals(List.of(kept.getId()), ids("extracao"));
+    }
+
+    @Test
+    void submitterChangesAreReindexed() throws Exception {
+        Request request = index(new MelhoriaRequest(), "Robô de cobrança", "UiPath");
+        financeUser.setName("Maria Souza");
+        financeUser.setDepartment("Comercial");
+        when(requestRepository.findByUserId(financeUser.getId())).thenReturn(List.of(request));
+
+        index.reindexUserAfterCommit(financeUser.getId());
+
+        assertTrue(index.search("cobranca", null, "Financeiro", null, null, 10, false).hits().isEmpty());
+        assertEquals(1, index.search("cobranca", null, "Comercial", null, null, 10, false).hits().size());
+        assertEquals(List.of(request.getId()), ids("souza"));
+        assertTrue(ids("conceicao").isEmpty());
+    }
+
+    @Test
+    void changesDuringARebuildAreAppliedAfterIt() throws Exception {
+        Request request = new MelhoriaRequest();
+        request.setId(UUID.randomUUID());
+        request.setDescription("Conciliação de cartões");
+        request.setUser(financeUser);
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(requestRepository.findLatest(any())).thenAnswer(invocation -> {
+            scanning.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(request);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> rebuild = executor.submit(index::rebuild);
+            assertTrue(scanning.await(10, TimeUnit.SECONDS));
+            // A alteração chega com a leitura em andamento e precisa esperar por ela
+            Future<?> update = executor.submit(() -> index.indexAfterCommit(request));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(1L, rebuild.get(10, TimeUnit.SECONDS));
+            update.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(List.of(request.getId()), ids("cartoes"));
+    }
+
+    private Request index(Request request, String description, String technology) {
+        request.setId(UUID.randomUUID());
+        request.setDescription(description);
+        request.setTecnologiaAutomacao(technology);
+        request.setUser(financeUser);
+        index.indexAfterCommit(request);
+        return request;
+    }
+
+    private List<UUID> ids(String text) throws Exception {
+        return index.search(text, null, null, null, null, 10, false).hits().stream()
+            .map(RequestSearchIndex.SearchHit::id)
+            .toList();
+    }
+}
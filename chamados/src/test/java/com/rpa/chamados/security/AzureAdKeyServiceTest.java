@@ -0,0 +1,175 @@
+package com.rpa.chamados.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AzureAdKeyServiceTest {
+
+    private static final String TENANT_ID = "test-tenant";
+    private static final String CLIENT_ID = "test-client";
+
+    private HttpServer jwksServer;
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private final AtomicReference<String> jwksBody = new AtomicReference<>();
+    private volatile long jwksDelayMs = 0;
+
+    private KeyPair currentKey;
+    private AzureAdKeyService keyService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        currentKey = generateKeyPair();
+        jwksBody.set(jwks("kid-1", (RSAPublicKey) currentKey.getPublic()));
+
+        jwksServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        jwksServer.setExecutor(Executors.newCachedThreadPool());
+        jwksServer.createContext("/keys", exchange -> {
+            jwksRequests.incrementAndGet();
+            try {
+                Thread.sleep(jwksDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = jwksBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        jwksServer.start();
+
+        keyService = new AzureAdKeyService(new VerifiedTokenCache(100));
+        ReflectionTestUtils.setField(keyService, "tenantId", TENANT_ID);
+        ReflectionTestUtils.setField(keyService, "clientId", CLIENT_ID);
+        ReflectionTestUtils.setField(keyService, "enableSignatureVerification", true);
+        ReflectionTestUtils.setField(keyService, "jwksUrlOverride",
+                "http://127.0.0.1:" + jwksServer.getAddress().getPort() + "/keys");
+        ReflectionTestUtils.setField(keyService, "refreshIntervalMs", 3_000_000L);
+        ReflectionTestUtils.setField(keyService, "unknownKidMinIntervalMs", 300_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.stop(0);
+    }
+
+    @Test
+    void concurrentColdStartFetchesJwksOnce() throws Exception {
+        jwksDelayMs = 300;
+        int threads = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return keyService.getVerifierForKeyId("kid-1");
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            assertNotNull(result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdownNow();
+
+        assertEquals(1, jwksRequests.get());
+    }
+
+    @Test
+    void unknownKeyIdsAreRateLimited() {
+        keyService.refreshIfDue();
+        assertEquals(1, jwksRequests.get());
+
+        for (int i = 0; i < 50; i++) {
+            String bogusKid = "bogus-" + i;
+            assertThrows(JWTVerificationException.class, () -> keyService.getVerifierForKeyId(bogusKid));
+        }
+
+        assertEquals(2, jwksRequests.get());
+    }
+
+    @Test
+    void staleKeysKeepServingUntilBackgroundRefresh() throws Exception {
+        keyService.refreshIfDue();
+        ReflectionTestUtils.setField(keyService, "lastKeyFetch", 1L);
+
+        jwksDelayMs = 2000;
+        long startedAt = System.nanoTime();
+        assertNotNull(keyService.getVerifierForKeyId("kid-1"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 500);
+        assertEquals(1, jwksRequests.get());
+
+        jwksDelayMs = 0;
+        keyService.refreshIfDue();
+        assertEquals(2, jwksRequests.get());
+    }
+
+    @Test
+    void rotationReplacesVerifiersAndDropsRetiredKeys() throws Exception {
+        keyService.refreshIfDue();
+        String oldToken = sign("kid-1", currentKey);
+        assertNotNull(keyService.getVerifierForKeyId("kid-1").verify(oldToken));
+
+        KeyPair rotatedKey = generateKeyPair();
+        jwksBody.set(jwks("kid-2", (RSAPublicKey) rotatedKey.getPublic()));
+        ReflectionTestUtils.setField(keyService, "lastKeyFetch", 1L);
+        keyService.refreshIfDue();
+
+        assertNotNull(keyService.getVerifierForKeyId("kid-2").verify(sign("kid-2", rotatedKey)));
+        ReflectionTestUtils.setField(keyService, "unknownKidMinIntervalMs", Long.MAX_VALUE);
+        assertThrows(JWTVerificationException.class, () -> keyService.getVerifierForKeyId("kid-1"));
+    }
+
+    private KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private String jwks(String keyId, RSAPublicKey publicKey) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String n = encoder.encodeToString(publicKey.getModulus().toByteArray());
+        String e = encoder.encodeToString(publicKey.getPublicExponent().toByteArray());
+        return """
+            {"keys":[{"kid":"%s","kty":"RSA","alg":"RS256","use":"sig","n":"%s","e":"%s"}]}
+            """.formatted(keyId, n, e);
+    }
+
+    private String sign(String keyId, KeyPair keyPair) {
+        return JWT.create()
+                .withKeyId(keyId)
+                .withIssuer("https://login.microsoftonline.com/" + TENANT_ID + "/v2.0")
+                .withAudience(CLIENT_ID)
+                .withSubject("subject")
+                .withExpiresAt(Date.from(Instant.now().plusSeconds(600)))
+                .sign(Algorithm.RSA256((RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate()));
+    }
+}
@@ -0,0 +1,176 @@
+package com.rpa.chamados.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final String TENANT_ID = "test-tenant";
+    private static final String CLIENT_ID = "test-client";
+    private static final String KEY_ID = "kid-1";
+    private static final int BENCHMARK_ITERATIONS = 500;
+
+    private AzureAdKeyService azureAdKeyService;
+    private JwtTokenService jwtTokenService;
+    private UserRepository userRepository;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
+
+        azureAdKeyService = mock(AzureAdKeyService.class);
+        JWTVerifier verifier = JWT.require(Algorithm.RSA256(publicKey, null)).build();
+        when(azureAdKeyService.getVerifierForKeyId(KEY_ID)).thenReturn(verifier);
+
+        jwtTokenService = new JwtTokenService(azureAdKeyService, new VerifiedTokenCache(0));
+        ReflectionTestUtils.setField(jwtTokenService, "tenantId", TENANT_ID);
+        ReflectionTestUtils.setField(jwtTokenService, "clientId", CLIENT_ID);
+        ReflectionTestUtils.setField(jwtTokenService, "enableSignatureVerification", true);
+
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        filter = new JwtAuthenticationFilter(jwtTokenService, userRepository, new UserRoleCache(userRepository, 0, 0));
+
+        token = JWT.create()
+                .withKeyId(KEY_ID)
+                .withIssuer("https://login.microsoftonline.com/" + TENANT_ID + "/v2.0")
+                .withAudience(CLIENT_ID)
+                .withSubject("subject-123")
+                .withClaim("email", "user@stefanini.com")
+                .withClaim("name", "Test User")
+                .withExpiresAt(Date.from(Instant.now().plusSeconds(3600)))
+                .sign(Algorithm.RSA256(publicKey, privateKey));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void filterVerifiesSignatureOncePerRequest() throws Exception {
+        runFilter();
+
+        verify(azureAdKeyService, times(1)).getVerifierForKeyId(KEY_ID);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertInstanceOf(JwtPrincipal.class, principal);
+        assertEquals("user@stefanini.com", SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    @Test
+    void downstreamLookupsReuseFilterPrincipal() throws Exception {
+        runFilter();
+
+        assertEquals("user@stefanini.com", jwtTokenService.extractEmailFromToken(token));
+        assertEquals("Test User", jwtTokenService.extractNameFromToken(token));
+        assertEquals("subject-123", jwtTokenService.extractSubjectFromToken(token));
+
+        verify(azureAdKeyService, times(1)).getVerifierForKeyId(KEY_ID);
+    }
+
+    @Test
+    void singlePassVerifiesOnceInsteadOfThreeTimes() throws Exception {
+        Measurement measurement = measure(10);
+
+        assertEquals(30, measurement.legacyVerifications());
+        assertEquals(10, measurement.singlePassVerifications());
+    }
+
+    /**
+     * Compara o tempo por requisição da verificação única com a verificação em cada extração.
+     * Roda só sob demanda: {@code mvn test -Dtest=JwtAuthenticationFilterBenchmarkTest -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void singlePassIsFasterThanVerifyingPerLookup() throws Exception {
+        Measurement measurement = measure(BENCHMARK_ITERATIONS);
+
+        assertEquals(3 * BENCHMARK_ITERATIONS, measurement.legacyVerifications());
+        assertEquals(BENCHMARK_ITERATIONS, measurement.singlePassVerifications());
+        assertTrue(measurement.singlePassNanos() < measurement.legacyNanos(),
+                "Single pass took " + measurement.singlePassNanos() + " ns against "
+                        + measurement.legacyNanos() + " ns");
+    }
+
+    @Test
+    void specialAdminIsSyncedOncePerWindow() throws Exception {
+        ReflectionTestUtils.setField(filter, "specialAdminEmail", "user@stefanini.com");
+        ReflectionTestUtils.setField(filter, "adminAutoGrantEnabled", true);
+        ReflectionTestUtils.setField(filter, "adminSyncIntervalMs", 300_000L);
+
+        for (int i = 0; i < 5; i++) {
+            runFilter();
+            assertTrue(SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                    .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority())));
+            SecurityContextHolder.clearContext();
+        }
+
+        verify(userRepository, times(1)).findByEmail("user@stefanini.com");
+        verify(userRepository, times(1)).save(any(User.class));
+    }
+
+    private void runFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/calls");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private Measurement measure(int iterations) throws Exception {
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            jwtTokenService.extractEmailFromToken(token);
+            jwtTokenService.extractNameFromToken(token);
+            jwtTokenService.extractSubjectFromToken(token);
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+        int legacyVerifications = mockingDetails(azureAdKeyService).getInvocations().size();
+        clearInvocations(azureAdKeyService);
+
+        long singlePassStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runFilter();
+            SecurityContextHolder.clearContext();
+        }
+        long singlePassNanos = System.nanoTime() - singlePassStart;
+        int singlePassVerifications = mockingDetails(azureAdKeyService).getInvocations().size();
+
+        return new Measurement(legacyVerifications, legacyNanos, singlePassVerifications, singlePassNanos);
+    }
+
+    private record Measurement(int legacyVerifications, long legacyNanos,
+                               int singlePassVerifications, long singlePassNanos) {
+    }
+}
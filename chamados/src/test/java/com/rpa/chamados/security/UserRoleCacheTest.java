@@ -0,0 +1,113 @@
+package com.rpa.chamados.security;
+
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.domain.model.enums.UserRole;
+import com.rpa.chamados.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserRoleCacheTest {
+
+    private static final String EMAIL = "analyst@stefanini.com";
+
+    private UserRepository userRepository;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail(EMAIL);
+        user.setUserRole(UserRole.ANALYST);
+
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void warmPathDoesNotHitTheDatabase() {
+        UserRoleCache cache = new UserRoleCache(userRepository, 60_000, 10);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(UserRole.ANALYST, cache.resolveRole(EMAIL));
+        }
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        assertEquals(4, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void invalidateReloadsChangedRole() {
+        UserRoleCache cache = new UserRoleCache(userRepository, 60_000, 10);
+        assertEquals(UserRole.ANALYST, cache.resolveRole(EMAIL));
+
+        user.setUserRole(UserRole.ADMIN);
+        assertEquals(UserRole.ANALYST, cache.resolveRole(EMAIL));
+
+        cache.invalidate(EMAIL);
+        assertEquals(UserRole.ADMIN, cache.resolveRole(EMAIL));
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void unknownUsersHaveNoRoleAndAreNotCached() {
+        UserRoleCache cache = new UserRoleCache(userRepository, 60_000, 10);
+        String email = "nobody@stefanini.com";
+
+        assertNull(cache.resolveRole(email));
+
+        User created = new User();
+        created.setEmail(email);
+        created.setUserRole(UserRole.DEFAULT);
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(created));
+        assertEquals(UserRole.DEFAULT, cache.resolveRole(email));
+    }
+
+    @Test
+    void databaseErrorsAreNotTurnedIntoARole() {
+        UserRoleCache cache = new UserRoleCache(userRepository, 60_000, 10);
+        when(userRepository.findByEmail("broken@stefanini.com")).thenThrow(new IllegalStateException("DB down"));
+
+        assertThrows(IllegalStateException.class, () -> cache.resolveRole("broken@stefanini.com"));
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void authorizationDeniesWithoutARoleAuthority() {
+        UserRoleAuthorizationService authorizationService = new UserRoleAuthorizationService();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "nobody@stefanini.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        assertFalse(authorizationService.hasAnyRole(UserRole.DEFAULT, UserRole.ANALYST, UserRole.DEVELOP,
+                UserRole.ADMIN));
+        assertNull(authorizationService.getCurrentUserRole());
+    }
+
+    @Test
+    void authorizationReadsRoleFromAuthorities() {
+        UserRoleAuthorizationService authorizationService = new UserRoleAuthorizationService();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                EMAIL, null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ANALYST"))));
+
+        assertTrue(authorizationService.hasAnyRole(UserRole.ANALYST, UserRole.ADMIN));
+        assertFalse(authorizationService.hasAnyRole(UserRole.ADMIN));
+        assertEquals(UserRole.ANALYST, authorizationService.getCurrentUserRole());
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,80 @@
+package com.rpa.chamados.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final Algorithm HMAC = Algorithm.HMAC256("test-secret");
+
+    @Test
+    void returnsCachedTokenUntilExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        String token = token("kid-1", Instant.now().plusSeconds(60));
+
+        assertNull(cache.get(token));
+        cache.put(token, JWT.decode(token));
+        DecodedJWT cached = cache.get(token);
+
+        assertNotNull(cached);
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void neverStoresTokensPastTheirExpClaim() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        String expired = token("kid-1", Instant.now().minusSeconds(1));
+
+        cache.put(expired, JWT.decode(expired));
+
+        assertNull(cache.get(expired));
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void boundsSizeByEvictingLeastRecentlyUsed() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        String first = token("kid-1", Instant.now().plusSeconds(60));
+        String second = token("kid-1", Instant.now().plusSeconds(61));
+        String third = token("kid-1", Instant.now().plusSeconds(62));
+
+        cache.put(first, JWT.decode(first));
+        cache.put(second, JWT.decode(second));
+        cache.put(third, JWT.decode(third));
+
+        assertEquals(2, cache.stats().size());
+        assertNull(cache.get(first));
+        assertNotNull(cache.get(third));
+    }
+
+    @Test
+    void evictsTokensSignedByRotatedKeys() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        String rotated = token("kid-old", Instant.now().plusSeconds(60));
+        String kept = token("kid-new", Instant.now().plusSeconds(60));
+
+        cache.put(rotated, JWT.decode(rotated));
+        cache.put(kept, JWT.decode(kept));
+        cache.evictKeyIds(List.of("kid-old"));
+
+        assertNull(cache.get(rotated));
+        assertNotNull(cache.get(kept));
+    }
+
+    private String token(String keyId, Instant expiresAt) {
+        return JWT.create()
+                .withKeyId(keyId)
+                .withSubject("subject-" + expiresAt.toEpochMilli())
+                .withExpiresAt(Date.from(expiresAt))
+                .sign(HMAC);
+    }
+}
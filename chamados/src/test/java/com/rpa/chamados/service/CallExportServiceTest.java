@@ -0,0 +1,94 @@
+package com.rpa.chamados.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rpa.chamados.domain.model.enums.ExportFormat;
+import com.rpa.chamados.support.RequestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class CallExportServiceTest {
+
+    private static final String TECHNOLOGY = "Export Tech";
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private CallExportService callExportService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        seed();
+    }
+
+    @Test
+    void csvIsWrittenWhileRowsAreRead() throws IOException {
+        FlushCountingOutputStream out = new FlushCountingOutputStream();
+
+        long exported = callExportService.exportCalls(null, null, null, TECHNOLOGY, ExportFormat.CSV, out);
+
+        assertEquals(ROWS, exported);
+        assertTrue(out.sizeAtFirstFlush > 0 && out.sizeAtFirstFlush < 1_024, "Header should be flushed on its own");
+        assertTrue(out.flushes > ROWS / 1_000, "Expected incremental flushes, got " + out.flushes);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(ROWS + 1, lines.length);
+        assertTrue(lines[0].startsWith("\uFEFFID,Tipo,Descrição"));
+        // Aspas e vírgulas escapadas; o "=" inicial não vira fórmula na planilha
+        assertTrue(lines[1].contains(",\"'=Export, \"\"quoted\"\" 0\","), lines[1]);
+    }
+
+    @Test
+    void ndjsonHasOneObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        callExportService.exportCalls(null, "melhoria", null, TECHNOLOGY, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(ROWS / 2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("MELHORIA", first.get("serviceType").asText());
+        assertEquals(TECHNOLOGY, first.get("tecnologiaAutomacao").asText());
+        assertNotNull(first.get("submitterInfo").get("email"));
+    }
+
+    private void seed() {
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+        new RequestFixtures(dataSource).insertRequests(ROWS, i ->
+            RequestFixtures.request(i % 2 == 0 ? "MELHORIA" : "SUSTENTACAO", "=Export, \"quoted\" " + i,
+                    start.minusSeconds(i))
+                .withTechnology(TECHNOLOGY));
+    }
+
+    private static final class FlushCountingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+        private int sizeAtFirstFlush = -1;
+
+        @Override
+        public void flush() {
+            if (sizeAtFirstFlush < 0) {
+                sizeAtFirstFlush = size();
+            }
+            flushes++;
+        }
+    }
+}
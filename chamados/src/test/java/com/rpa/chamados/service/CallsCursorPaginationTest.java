@@ -0,0 +1,108 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.CursorPageDto;
+import com.rpa.chamados.controller.dto.KeysetCursor;
+import com.rpa.chamados.controller.dto.RequestDto;
+import com.rpa.chamados.support.RequestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class CallsCursorPaginationTest {
+
+    private static final String TECHNOLOGY = "Cursor Tech";
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private RequestFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new RequestFixtures(dataSource);
+    }
+
+    @Test
+    void walkingSearchPagesVisitsEveryRowOnce() {
+        seed(1_000, LocalDateTime.now().minusYears(1));
+
+        Set<String> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        CursorPageDto<RequestDto> page;
+        do {
+            page = requestService.searchCalls(null, null, null, TECHNOLOGY, null, null, null, null, null,
+                    cursor, 100, pages == 0);
+            if (pages == 0) {
+                assertEquals(1_000L, page.total());
+            } else {
+                assertNull(page.total());
+            }
+            page.items().forEach(call -> assertTrue(seen.add(call.id()), "Duplicate row " + call.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (page.hasNext());
+
+        assertEquals(1_000, seen.size());
+        assertEquals(10, pages);
+    }
+
+    /**
+     * Com 200 mil linhas, uma página profunda custa o mesmo que a primeira. Roda só sob demanda:
+     * {@code mvn test -Dtest=CallsCursorPaginationTest -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void deepPagesCostTheSameAsTheFirstPage() {
+        seed(200_000, LocalDateTime.now().minusYears(2));
+
+        Map<String, Object> oldest = fixtures.jdbcTemplate().queryForMap(
+            "SELECT created_at, id FROM requests ORDER BY created_at ASC, id ASC LIMIT 1 OFFSET 100");
+        String deepCursor = new KeysetCursor(
+            ((Timestamp) oldest.get("CREATED_AT")).toLocalDateTime().toString(),
+            oldest.get("ID").toString()
+        ).encode();
+
+        requestService.getCalls(null, 50, false);
+        requestService.getCalls(deepCursor, 50, false);
+
+        long firstPageNanos = time(() -> requestService.getCalls(null, 50, false));
+        long deepPageNanos = time(() -> requestService.getCalls(deepCursor, 50, false));
+
+        assertEquals(50, requestService.getCalls(deepCursor, 50, false).items().size());
+        assertTrue(deepPageNanos < firstPageNanos * 5 + 20_000_000L,
+                "Deep page took " + deepPageNanos + " ns against " + firstPageNanos + " ns");
+    }
+
+    private long time(Runnable action) {
+        int iterations = 20;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+
+    private void seed(int count, LocalDateTime start) {
+        // Lotes de 10 linhas com o mesmo createdAt exercitam o desempate pelo id
+        fixtures.insertRequests(count, i -> RequestFixtures.request("NOVO_PROJETO", "Cursor " + i, start.plusSeconds(i / 10))
+                .withTechnology(TECHNOLOGY));
+    }
+}
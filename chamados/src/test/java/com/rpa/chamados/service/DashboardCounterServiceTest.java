@@ -0,0 +1,194 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.CallStatsDto;
+import com.rpa.chamados.controller.dto.DashboardCountersDto;
+import com.rpa.chamados.controller.dto.SubmitterInfoDto;
+import com.rpa.chamados.domain.model.MelhoriaRequest;
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.domain.model.enums.CounterDimension;
+import com.rpa.chamados.service.impl.DashboardCounterServiceImpl;
+import com.rpa.chamados.repository.DashboardCounterRepository;
+import com.rpa.chamados.repository.RequestRepository;
+import com.rpa.chamados.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Transactional
+class DashboardCounterServiceTest {
+
+    @Autowired
+    private DashboardCounterService counterService;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DashboardCounterRepository counterRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rebuildMatchesLiveAggregation() {
+        DashboardCountersDto counters = counterService.rebuild();
+        CallStatsDto live = requestService.getCallStats();
+
+        assertEquals(requestRepository.count(), counters.total());
+        assertEquals(live.byServiceType().melhoria(), counters.byServiceType().get("MELHORIA").intValue());
+        live.byTechnology().forEach((technology, count) ->
+            assertEquals(count.longValue(), counters.byTechnology().get(technology)));
+        assertEquals(counters.total(), counters.byWeek().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void createUpdateAndDeleteKeepCountersInStep() {
+        DashboardCountersDto before = counterService.rebuild();
+        User user = userRepository.findAll().getFirst();
+
+        MelhoriaRequest request = new MelhoriaRequest();
+        request.setDescription("Contador incremental");
+        request.setCelula("counter-a");
+        request.setTecnologiaAutomacao("Counter Tech");
+        request.setUser(user);
+        MelhoriaRequest saved = requestRepository.save(request);
+        counterService.recordCreated(saved);
+
+        DashboardCountersDto afterCreate = counterService.getCounters();
+        assertEquals(before.total() + 1, afterCreate.total());
+        assertEquals(1L, afterCreate.byCelula().get("counter-a"));
+        assertEquals(1L, afterCreate.byTechnology().get("Counter Tech"));
+        String currentWeek = counterService.weekKey(LocalDate.now());
+        assertEquals(before.byWeek().getOrDefault(currentWeek, 0L) + 1, afterCreate.byWeek().get(currentWeek));
+
+        Map<CounterDimension, String> previousKeys = counterService.dimensionKeys(saved);
+        saved.setCelula("counter-b");
+        counterService.recordUpdated(previousKeys, requestRepository.save(saved));
+
+        DashboardCountersDto afterUpdate = counterService.getCounters();
+        assertEquals(afterCreate.total(), afterUpdate.total());
+        assertEquals(null, afterUpdate.byCelula().get("counter-a"));
+        assertEquals(1L, afterUpdate.byCelula().get("counter-b"));
+
+        requestRepository.delete(saved);
+        counterService.recordDeleted(saved);
+
+        DashboardCountersDto afterDelete = counterService.getCounters();
+        assertEquals(before.total(), afterDelete.total());
+        assertEquals(null, afterDelete.byCelula().get("counter-b"));
+        assertEquals(before.byServiceType(), afterDelete.byServiceType());
+    }
+
+    @Test
+    void submitterDepartmentChangesMoveTheirRequests() {
+        User user = new User();
+        user.setName("Counter submitter");
+        user.setEmail("counter-submitter@stefanini.com");
+        user.setDepartment("Counter Dept A");
+        user.setCompany("STEFANINI");
+        user = userRepository.save(user);
+        for (int i = 0; i < 2; i++) {
+            MelhoriaRequest request = new MelhoriaRequest();
+            request.setDescription("Contador por departamento " + i);
+            request.setUser(user);
+            requestRepository.save(request);
+        }
+        counterService.rebuild();
+
+        userService.findOrCreateSubmitter(new SubmitterInfoDto(null, user.getName(), user.getEmail(), null,
+                "Counter Dept B", user.getCompany(), null, true, null, null, null));
+
+        DashboardCountersDto counters = counterService.getCounters();
+        assertEquals(null, counters.byDepartment().get("Counter Dept A"));
+        assertEquals(2L, counters.byDepartment().get("Counter Dept B"));
+        Map<String, Long> live = new HashMap<>();
+        requestService.getCallStats().byDepartment().forEach((department, count) -> live.put(department, count.longValue()));
+        assertEquals(live, counters.byDepartment());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentCreationsForANewKeyBothCount() throws Exception {
+        // As duas transações só seguem depois de ambas verem que a chave não existe: é a
+        // janela em que as duas tentam criar o mesmo contador
+        CyclicBarrier bothMissed = new CyclicBarrier(2);
+        Set<Thread> missed = ConcurrentHashMap.newKeySet();
+        DashboardCounterRepository racingRepository = (DashboardCounterRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{DashboardCounterRepository.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(counterRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("increment") && (Integer) result == 0
+                            && missed.add(Thread.currentThread())) {
+                        bothMissed.await(10, TimeUnit.SECONDS);
+                    }
+                    return result;
+                });
+        DashboardCounterService racingService =
+                new DashboardCounterServiceImpl(racingRepository, requestRepository, transactionManager);
+
+        String celula = "race-" + UUID.randomUUID();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                results.add(executor.submit(() -> {
+                    MelhoriaRequest request = new MelhoriaRequest();
+                    request.setCelula(celula);
+                    // Só a célula muda, então cada transação toca apenas o contador disputado
+                    Map<CounterDimension, String> previousKeys = new EnumMap<>(racingService.dimensionKeys(request));
+                    previousKeys.remove(CounterDimension.CELULA);
+                    transaction.executeWithoutResult(status -> racingService.recordUpdated(previousKeys, request));
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+
+            assertEquals(2L, counterService.getCounters().byCelula().get(celula));
+        } finally {
+            executor.shutdownNow();
+            // Os incrementos foram confirmados sem solicitações reais; o rebuild devolve os contadores ao estado do banco
+            transaction.executeWithoutResult(status -> counterService.rebuild());
+        }
+    }
+}
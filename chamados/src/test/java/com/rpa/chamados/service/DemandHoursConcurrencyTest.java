@@ -0,0 +1,93 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.DemandHoursDto;
+import com.rpa.chamados.domain.model.Demand;
+import com.rpa.chamados.domain.model.Tracking;
+import com.rpa.chamados.domain.model.enums.Nature;
+import com.rpa.chamados.repository.DemandHoursRepository;
+import com.rpa.chamados.repository.TrackingRepository;
+import com.rpa.chamados.service.impl.DemandHoursServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class DemandHoursConcurrencyTest {
+
+    @Autowired
+    private DemandHoursService demandHoursService;
+
+    @Autowired
+    private DemandHoursRepository demandHoursRepository;
+
+    @Autowired
+    private TrackingRepository trackingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentTrackingsForANewEntryBothCount() throws Exception {
+        // As duas transações só seguem depois de ambas verem que a entrada não existe
+        CyclicBarrier bothMissed = new CyclicBarrier(2);
+        Set<Thread> missed = ConcurrentHashMap.newKeySet();
+        DemandHoursRepository racingRepository = (DemandHoursRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{DemandHoursRepository.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(demandHoursRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("increment") && (Integer) result == 0
+                            && missed.add(Thread.currentThread())) {
+                        bothMissed.await(10, TimeUnit.SECONDS);
+                    }
+                    return result;
+                });
+        DemandHoursService racingService =
+                new DemandHoursServiceImpl(racingRepository, trackingRepository, transactionManager);
+
+        // O ledger não tem chave estrangeira para demandas; um id fora da faixa da sequência basta
+        Demand demand = Demand.builder().id(-System.nanoTime()).build();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (double hours : new double[]{1.5, 2.0}) {
+                Tracking tracking = Tracking.builder().demand(demand).nature(Nature.DEVELOP).hours(hours).build();
+                results.add(executor.submit(() -> {
+                    transaction.executeWithoutResult(status -> racingService.recordCreated(tracking));
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+
+            DemandHoursDto hours = demandHoursService.getHours(List.of(demand.getId())).getFirst();
+            assertEquals(3.5, hours.hoursByNature().get(Nature.DEVELOP));
+        } finally {
+            executor.shutdownNow();
+            // Remove a entrada gravada sem tracking real
+            transaction.executeWithoutResult(status -> demandHoursService.rebuild());
+        }
+    }
+}
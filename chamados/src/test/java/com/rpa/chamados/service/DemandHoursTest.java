@@ -0,0 +1,132 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.CreateTrackingRequest;
+import com.rpa.chamados.controller.dto.DemandHoursDto;
+import com.rpa.chamados.controller.dto.TrackingDto;
+import com.rpa.chamados.controller.dto.UpdateTrackingRequest;
+import com.rpa.chamados.domain.model.Demand;
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.domain.model.enums.DemandStatus;
+import com.rpa.chamados.domain.model.enums.Nature;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+import com.rpa.chamados.support.RequestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class DemandHoursTest {
+
+    @Autowired
+    private TrackingService trackingService;
+
+    @Autowired
+    private DemandHoursService demandHoursService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Demand first;
+    private Demand second;
+    private User submitter;
+
+    @BeforeEach
+    void setUp() {
+        submitter = new User();
+        submitter.setName("Hours submitter");
+        submitter.setEmail("hours@stefanini.com");
+        submitter.setDepartment("Demands");
+        submitter.setCompany("STEFANINI");
+        entityManager.persist(submitter);
+
+        first = demand("Hours demand 1");
+        second = demand("Hours demand 2");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void trackingWritesKeepTheLedgerInSync() {
+        TrackingDto develop = trackingService.createTracking(create(first.getId(), 3.5, Nature.DEVELOP));
+        trackingService.createTracking(create(first.getId(), 2.0, Nature.DEVELOP));
+        TrackingDto documentation = trackingService.createTracking(create(first.getId(), 1.0, Nature.DOCUMENTATION));
+
+        assertEquals(6.5, trackingService.getTotalHoursByDemandId(first.getId()));
+        assertEquals(5.5, trackingService.getTotalHoursByDemandIdAndNature(first.getId(), Nature.DEVELOP));
+        assertEquals(1.0, trackingService.getTotalHoursByDemandIdAndNature(first.getId(), Nature.DOCUMENTATION));
+
+        // Mesma demanda e natureza: aplica só a diferença
+        trackingService.updateTracking(update(develop.id(), first.getId(), 4.0, Nature.DEVELOP));
+        assertEquals(6.0, trackingService.getTotalHoursByDemandIdAndNature(first.getId(), Nature.DEVELOP));
+
+        // Troca de demanda e natureza: sai de uma entrada e entra na outra
+        trackingService.updateTracking(update(develop.id(), second.getId(), 4.0, Nature.DOCUMENTATION));
+        assertEquals(2.0, trackingService.getTotalHoursByDemandIdAndNature(first.getId(), Nature.DEVELOP));
+        assertEquals(4.0, trackingService.getTotalHoursByDemandIdAndNature(second.getId(), Nature.DOCUMENTATION));
+
+        trackingService.deleteTrackingById(documentation.id());
+        assertEquals(2.0, trackingService.getTotalHoursByDemandId(first.getId()));
+        assertEquals(0.0, trackingService.getTotalHoursByDemandIdAndNature(first.getId(), Nature.DOCUMENTATION));
+
+        List<DemandHoursDto> beforeRebuild = demandHoursService.getHours(List.of(first.getId(), second.getId()));
+        demandHoursService.rebuild();
+        assertEquals(beforeRebuild, demandHoursService.getHours(List.of(first.getId(), second.getId())));
+    }
+
+    @Test
+    void totalsForManyDemandsComeFromOneQuery() {
+        trackingService.createTracking(create(first.getId(), 3.0, Nature.DEVELOP));
+        trackingService.createTracking(create(second.getId(), 1.5, Nature.DOCUMENTATION));
+        entityManager.flush();
+
+        Statistics statistics = RequestFixtures.statistics(entityManagerFactory);
+        List<DemandHoursDto> totals = trackingService.getTotalHoursByDemandIds(
+                List.of(second.getId(), first.getId(), second.getId(), -1L));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(List.of(second.getId(), first.getId(), -1L), totals.stream().map(DemandHoursDto::demandId).toList());
+        assertEquals(1.5, totals.get(0).totalHours());
+        assertEquals(1.5, totals.get(0).hoursByNature().get(Nature.DOCUMENTATION));
+        assertEquals(0.0, totals.get(0).hoursByNature().get(Nature.DEVELOP));
+        assertEquals(3.0, totals.get(1).totalHours());
+        assertEquals(0.0, totals.get(2).totalHours());
+
+        List<Long> tooMany = LongStream.rangeClosed(1, 501).boxed().toList();
+        assertThrows(IllegalArgumentException.class, () -> trackingService.getTotalHoursByDemandIds(tooMany));
+    }
+
+    private Demand demand(String name) {
+        Demand demand = Demand.builder()
+                .name(name)
+                .type(ServiceType.MELHORIA)
+                .status(DemandStatus.DEVELOPING)
+                .build();
+        entityManager.persist(demand);
+        return demand;
+    }
+
+    private CreateTrackingRequest create(Long demandId, double hours, Nature nature) {
+        return new CreateTrackingRequest(demandId, hours, nature, "Apontamento", LocalDate.now(), submitter.getId());
+    }
+
+    private UpdateTrackingRequest update(Long id, Long demandId, double hours, Nature nature) {
+        return new UpdateTrackingRequest(id, demandId, hours, nature, "Apontamento", LocalDate.now(),
+                submitter.getId());
+    }
+}
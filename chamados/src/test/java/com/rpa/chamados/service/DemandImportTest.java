@@ -0,0 +1,176 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.CreateDemandRequest;
+import com.rpa.chamados.controller.dto.DemandImportResultDto;
+import com.rpa.chamados.domain.model.Project;
+import com.rpa.chamados.domain.model.Robot;
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.domain.model.enums.DemandStatus;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+import com.rpa.chamados.repository.DemandRepository;
+import com.rpa.chamados.support.DemandFixtures;
+import com.rpa.chamados.support.RequestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class DemandImportTest {
+
+    @Autowired
+    private DemandService demandService;
+
+    @Autowired
+    private DemandRepository demandRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Project project;
+    private Robot robot;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = RequestFixtures.statistics(entityManagerFactory);
+
+        DemandFixtures.References references = new DemandFixtures(entityManager)
+                .references("Import", "import@stefanini.com");
+        project = references.project();
+        robot = references.robot();
+        user = references.user();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void invalidRowsRejectTheWholeImport() {
+        demandService.createDemand(request("Existing import", project.getId()));
+        long before = demandRepository.count();
+
+        DemandImportResultDto result = demandService.importDemands(List.of(
+                request("Import ok", project.getId()),
+                request("Import ok", project.getId()),
+                request(" ", -5L),
+                request("Existing import", project.getId())
+        ));
+
+        assertEquals(4, result.received());
+        assertEquals(0, result.created());
+        assertEquals(before, demandRepository.count());
+        assertTrue(result.errors().stream().noneMatch(error -> error.row() == 1));
+        assertTrue(hasError(result, 2, "name", "Nome repetido na linha 1"));
+        assertTrue(hasError(result, 3, "name", "Name cannot be blank"));
+        assertTrue(hasError(result, 3, "projectId", "Project ID must be positive"));
+        assertTrue(hasError(result, 3, "projectId", "Projeto com ID -5 não encontrado"));
+        assertTrue(hasError(result, 4, "name", "Demanda com o nome 'Existing import' já existe"));
+    }
+
+    @Test
+    void validRowsAreInsertedInJdbcBatches() {
+        int rows = 2_000;
+        List<CreateDemandRequest> requests = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            requests.add(request("Batch import " + i, project.getId()));
+        }
+        long before = demandRepository.count();
+
+        statistics.clear();
+        DemandImportResultDto result = demandService.importDemands(requests);
+
+        assertEquals(rows, result.created());
+        assertTrue(result.errors().isEmpty());
+        // Consultas de validação por conjunto, um insert preparado por lote e as buscas de blocos da sequência
+        assertTrue(statistics.getPrepareStatementCount() < 100,
+                "Expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+        assertEquals(before + rows, demandRepository.count());
+    }
+
+    @Test
+    void csvRowsAreParsedAndConversionErrorsReported() throws Exception {
+        String csv = "Name;Doc Hours;dev_hours;TYPE;description;focalPointId;analystId;projectId;status;openedAt;robotId\n"
+                + "CSV import 1;1,5;2;melhoria;\"Linha com ; e \"\"aspas\"\"\nem duas linhas\";" + user.getId() + ";"
+                + user.getId() + ";" + project.getId() + ";backlog;2025-01-10;" + robot.getId() + "\n"
+                + "\n"
+                + "CSV import 2;x;2;MELHORIA;Outra;not-a-uuid;" + user.getId() + ";" + project.getId()
+                + ";BACKLOG;;" + robot.getId() + "\n";
+
+        DemandImportResultDto rejected = demandService.importDemandsCsv(stream(csv));
+
+        assertEquals(2, rejected.received());
+        assertEquals(0, rejected.created());
+        assertTrue(hasError(rejected, 2, "docHours", "Valor inválido para docHours"));
+        assertTrue(hasError(rejected, 2, "focalPointId", "Valor inválido para focalPointId"));
+        assertEquals(2, rejected.errors().size());
+
+        int firstRow = csv.indexOf("\n\n");
+        DemandImportResultDto created = demandService.importDemandsCsv(stream(csv.substring(0, firstRow + 1)));
+        assertEquals(1, created.created());
+
+        var demand = demandService.queryDemands("CSV import 1", null, null, null, null, null, null, null, null,
+                null, null, 1, false).items().getFirst();
+        assertEquals(1.5, demand.docHours());
+        assertEquals("Linha com ; e \"aspas\"\nem duas linhas", demand.description());
+        assertEquals(LocalDate.of(2025, 1, 10), demand.openedAt());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> demandService.importDemandsCsv(stream("name,unknown\nx,y\n")));
+    }
+
+    /**
+     * Meta da importação: 10 mil demandas em poucos segundos no H2. O limite é folgado porque o
+     * tempo inclui o {@code show_sql} e varia com a máquina. Roda só sob demanda:
+     * {@code mvn test -Dtest=DemandImportTest -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void importsTenThousandDemandsInAFewSeconds() {
+        List<CreateDemandRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            requests.add(request("Benchmark import " + i, project.getId()));
+        }
+
+        long start = System.nanoTime();
+        DemandImportResultDto result = demandService.importDemands(requests);
+        entityManager.flush();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(10_000, result.created());
+        assertTrue(elapsedMs < 15_000, "Import took " + elapsedMs + " ms");
+    }
+
+    private CreateDemandRequest request(String name, Long projectId) {
+        return new CreateDemandRequest(name, 1.0, 2.0, ServiceType.MELHORIA, "Imported", user.getId(),
+                user.getId(), projectId, DemandStatus.BACKLOG, null, null, null, null, robot.getId(), 0L, 0L);
+    }
+
+    private static boolean hasError(DemandImportResultDto result, int row, String field, String message) {
+        return result.errors().stream().anyMatch(error -> error.row() == row
+                && field.equals(error.field()) && message.equals(error.message()));
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
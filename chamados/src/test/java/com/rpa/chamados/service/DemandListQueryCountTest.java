@@ -0,0 +1,146 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.CursorPageDto;
+import com.rpa.chamados.controller.dto.DemandDto;
+import com.rpa.chamados.controller.dto.KeysetCursor;
+import com.rpa.chamados.domain.model.Demand;
+import com.rpa.chamados.domain.model.Project;
+import com.rpa.chamados.domain.model.Robot;
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.domain.model.enums.DemandStatus;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+import com.rpa.chamados.support.DemandFixtures;
+import com.rpa.chamados.support.RequestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class DemandListQueryCountTest {
+
+    private static final int DEMANDS = 40;
+
+    @Autowired
+    private DemandService demandService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User analyst;
+    private Long demandId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = RequestFixtures.statistics(entityManagerFactory);
+        seed();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listsLoadRelatedRowsInTheSameQuery() {
+        assertSingleQuery(() -> demandService.getAllDemands().demands());
+        assertSingleQuery(() -> demandService.findByStatus(DemandStatus.DEVELOPING));
+        assertSingleQuery(() -> demandService.findByAnalystId(analyst.getId()));
+        assertSingleQuery(() -> List.of(demandService.findById(demandId)));
+    }
+
+    @Test
+    void queryCombinesFiltersAndPagesByKeyset() {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            entityManager.clear();
+            statistics.clear();
+            CursorPageDto<DemandDto> page = demandService.queryDemands(null, DemandStatus.DEVELOPING, null,
+                    analyst.getId(), null, null, null, null, null, null, cursor, 3, false);
+            assertEquals(1, statistics.getPrepareStatementCount());
+
+            page.items().forEach(demand -> assertNotNull(demand.project().client().name()));
+            page.items().forEach(demand -> ids.add(demand.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // i par e múltiplo de 3: 0, 6, ..., 36
+        assertEquals(7, ids.size());
+        assertEquals(3, pages);
+        assertEquals(ids.stream().sorted(Comparator.reverseOrder()).toList(), ids);
+
+        CursorPageDto<DemandDto> byRobotName = demandService.queryDemands("query count 1 robot", null, null, null, null,
+                null, null, null, null, null, null, 50, true);
+        assertEquals(10L, byRobotName.total());
+        assertEquals(10, byRobotName.items().size());
+        assertFalse(byRobotName.hasNext());
+
+        assertThrows(IllegalArgumentException.class, () -> demandService.queryDemands(null, null, null, null, null,
+                null, null, null, null, null, new KeysetCursor("x", "abc").encode(), 10, false));
+    }
+
+    private void assertSingleQuery(Supplier<List<DemandDto>> action) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<DemandDto> demands = action.get();
+
+        assertFalse(demands.isEmpty());
+        demands.stream()
+            .filter(demand -> demand.name() != null && demand.name().startsWith("Query count demand"))
+            .forEach(demand -> {
+                assertNotNull(demand.analyst().email());
+                assertNotNull(demand.focalPoint().email());
+                assertNotNull(demand.robot().name());
+                assertNotNull(demand.project().client().name());
+            });
+        assertEquals(1, statistics.getPrepareStatementCount(),
+                "Expected one statement for " + demands.size() + " demands");
+    }
+
+    private void seed() {
+        DemandFixtures fixtures = new DemandFixtures(entityManager);
+        List<Project> projects = new ArrayList<>();
+        List<Robot> robots = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            DemandFixtures.References references =
+                    fixtures.references("Query count " + i, "demand-query-count-" + i + "@stefanini.com");
+            projects.add(references.project());
+            robots.add(references.robot());
+            users.add(references.user());
+        }
+        analyst = users.getFirst();
+
+        for (int i = 0; i < DEMANDS; i++) {
+            Demand demand = Demand.builder()
+                    .name("Query count demand " + i)
+                    .type(ServiceType.MELHORIA)
+                    .status(i % 2 == 0 ? DemandStatus.DEVELOPING : DemandStatus.BACKLOG)
+                    .analyst(i % 3 == 0 ? analyst : users.get(1 + i % 3))
+                    .focalPoint(users.get(i % users.size()))
+                    .project(projects.get(i % projects.size()))
+                    .robot(robots.get(i % robots.size()))
+                    .build();
+            entityManager.persist(demand);
+            demandId = demand.getId();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.CreateDemandRequest;
+import com.rpa.chamados.controller.dto.DemandDto;
+import com.rpa.chamados.controller.dto.UpdateDemandRequest;
+import com.rpa.chamados.domain.model.Project;
+import com.rpa.chamados.domain.model.Robot;
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.domain.model.enums.DemandStatus;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+import com.rpa.chamados.exception.DemandAlreadyExistsException;
+import com.rpa.chamados.exception.InvalidDemandUpdateException;
+import com.rpa.chamados.support.DemandFixtures;
+import com.rpa.chamados.support.RequestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class DemandWriteQueryCountTest {
+
+    @Autowired
+    private DemandService demandService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Project project;
+    private Robot robot;
+    private User focalPoint;
+    private User analyst;
+
+    @BeforeEach
+    void setUp() {
+        statistics = RequestFixtures.statistics(entityManagerFactory);
+
+        DemandFixtures fixtures = new DemandFixtures(entityManager);
+        DemandFixtures.References references = fixtures.references("Write", "write-focal@stefanini.com");
+        project = references.project();
+        robot = references.robot();
+        focalPoint = references.user();
+        analyst = fixtures.user("Write analyst", "write-analyst@stefanini.com");
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void writesValidateReferencesInOneQuery() {
+        statistics.clear();
+        DemandDto created = demandService.createDemand(createRequest("Write demand", project.getId()));
+
+        // Validação + insert + leitura com as associações, mais a busca de um bloco de ids na
+        // sequência quando o bloco anterior se esgota
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements == 3 || statements == 4, "Expected 3 statements plus the sequence, got " + statements);
+        assertEquals("Write client", created.project().client().name());
+        assertEquals(analyst.getEmail(), created.analyst().email());
+        assertEquals("Write robot", created.robot().name());
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        DemandDto updated = demandService.updateDemand(new UpdateDemandRequest(created.id(), "Write demand v2", 1.0,
+                2.0, ServiceType.MELHORIA, "Updated", focalPoint.getId(), analyst.getId(), project.getId(),
+                DemandStatus.DEVELOPING, null, null, null, null, null, robot.getId(), 0L, 0L));
+        entityManager.flush();
+
+        // Leitura da demanda + validação + update
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals("Write demand v2", updated.name());
+        assertEquals(focalPoint.getEmail(), updated.focalPoint().email());
+    }
+
+    @Test
+    void missingReferencesAndDuplicateNamesAreRejected() {
+        demandService.createDemand(createRequest("Duplicated", project.getId()));
+
+        assertThrows(DemandAlreadyExistsException.class,
+                () -> demandService.createDemand(createRequest("Duplicated", project.getId())));
+
+        InvalidDemandUpdateException missing = assertThrows(InvalidDemandUpdateException.class,
+                () -> demandService.createDemand(createRequest("Orphan", -1L)));
+        assertEquals("Projeto com ID -1 não encontrado", missing.getMessage());
+    }
+
+    private CreateDemandRequest createRequest(String name, Long projectId) {
+        return new CreateDemandRequest(name, 1.0, 2.0, ServiceType.MELHORIA, "Description", focalPoint.getId(),
+                analyst.getId(), projectId, DemandStatus.BACKLOG, null, null, null, null, robot.getId(), 0L, 0L);
+    }
+}
@@ -0,0 +1,85 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.support.RequestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class DepartmentAnalyticsTest {
+
+    private static final int DEPARTMENTS = 25;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        RequestFixtures fixtures = new RequestFixtures(dataSource);
+        List<RequestFixtures.SeedRequest> requests = new ArrayList<>();
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            // Dois usuários por departamento, um inativo; o ativo tem d + 1 solicitações e o inativo, uma
+            UUID active = insertUser(fixtures, "Analytics " + d, true);
+            UUID inactive = insertUser(fixtures, "Analytics " + d, false);
+            for (int r = 0; r <= d; r++) {
+                requests.add(request(active));
+            }
+            requests.add(request(inactive));
+        }
+        fixtures.insertRequests(requests);
+    }
+
+    @Test
+    void analyticsComeFromOneGroupedQuery() {
+        Statistics statistics = RequestFixtures.statistics(entityManagerFactory);
+
+        List<Map<String, Object>> analytics = userService.getDepartmentAnalytics();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        Map<String, Object> department = analytics.stream()
+                .filter(row -> "Analytics 3".equals(row.get("department")))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2L, department.get("totalUsers"));
+        assertEquals(1L, department.get("activeUsers"));
+        assertEquals(5L, department.get("totalRequests"));
+        assertEquals(2.5, (Double) department.get("avgRequestsPerUser"), 0.001);
+
+        long seeded = analytics.stream()
+                .filter(row -> ((String) row.get("department")).startsWith("Analytics "))
+                .count();
+        assertEquals(DEPARTMENTS, seeded);
+    }
+
+    private static UUID insertUser(RequestFixtures fixtures, String department, boolean active) {
+        UUID id = UUID.randomUUID();
+        fixtures.insertUser(id, "User " + id, id + "@stefanini.com", department, "STEFANINI", active, LocalDateTime.now());
+        return id;
+    }
+
+    private static RequestFixtures.SeedRequest request(UUID userId) {
+        return RequestFixtures.request("MELHORIA", "Analytics", LocalDateTime.now()).withUser(userId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.rpa.chamados.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rpa.chamados.controller.dto.SubmitterInfoDto;
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class FormRespondentsTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void streamWritesEveryUserAsOneJsonArray() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = userService.writeFormRespondents(out);
+
+        JsonNode users = objectMapper.readTree(out.toString(StandardCharsets.UTF_8));
+        assertTrue(users.isArray());
+        assertEquals(userRepository.count(), written);
+        assertEquals(written, users.size());
+        assertNotNull(users.get(0).get("email"));
+
+        Page<SubmitterInfoDto> page = userService.getFormRespondents(PageRequest.of(0, 1_000));
+        assertEquals(written, page.getTotalElements());
+        assertTrue(page.getContent().size() <= 200);
+        assertEquals(users.get(0).get("id").asText(), page.getContent().getFirst().id());
+    }
+
+    @Test
+    void versionChangesOnlyWhenAUserWriteCommits() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        String initial = userService.getFormRespondentsVersion();
+
+        transaction.executeWithoutResult(status -> {
+            userRepository.saveAndFlush(newUser("rolled-back@stefanini.com"));
+            status.setRollbackOnly();
+        });
+        assertEquals(initial, userService.getFormRespondentsVersion());
+
+        User saved = transaction.execute(status -> userRepository.save(newUser("etag@stefanini.com")));
+        String afterInsert = userService.getFormRespondentsVersion();
+        assertNotEquals(initial, afterInsert);
+
+        transaction.executeWithoutResult(status -> userRepository.deleteById(saved.getId()));
+        assertNotEquals(afterInsert, userService.getFormRespondentsVersion());
+    }
+
+    private static User newUser(String email) {
+        User user = new User();
+        user.setName("ETag");
+        user.setEmail(email);
+        user.setDepartment("ETag Dept");
+        user.setCompany("STEFANINI");
+        return user;
+    }
+}
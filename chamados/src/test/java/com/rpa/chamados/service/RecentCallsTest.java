@@ -0,0 +1,51 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.RequestDto;
+import com.rpa.chamados.support.RequestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+class RecentCallsTest {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void returnsLatestCallsNewestFirst() {
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+        new RequestFixtures(dataSource).insertRequests(3,
+                i -> RequestFixtures.request("NOVO_PROJETO", "Recente " + i, future.plusMinutes(i)));
+
+        List<RequestDto> recent = requestService.getRecentCalls(2);
+
+        assertEquals(2, recent.size());
+        assertEquals("Recente 2", recent.get(0).description());
+        assertEquals("Recente 1", recent.get(1).description());
+    }
+
+    @Test
+    void createdAtIsIndexed() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Integer indexes = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'IDX_REQUESTS_CREATED_AT'",
+            Integer.class
+        );
+
+        assertTrue(indexes != null && indexes > 0);
+    }
+}
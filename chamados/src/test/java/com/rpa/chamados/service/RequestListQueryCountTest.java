@@ -0,0 +1,126 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.RequestDto;
+import com.rpa.chamados.domain.model.Request;
+import com.rpa.chamados.repository.RequestRepository;
+import com.rpa.chamados.support.RequestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class RequestListQueryCountTest {
+
+    private static final String SUBMITTER = "query-count@stefanini.com";
+    private static final String TECHNOLOGY = "Query Count Tech";
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = RequestFixtures.statistics(entityManagerFactory);
+        seed(120);
+    }
+
+    @Test
+    void searchPageQueryCountDoesNotGrowWithPageSize() {
+        long small = countStatements(() -> requestService.searchCalls(null, null, null, TECHNOLOGY, null, null, null,
+                null, null, null, 10, false).items());
+        long large = countStatements(() -> requestService.searchCalls(null, null, null, TECHNOLOGY, null, null, null,
+                null, null, null, 100, false).items());
+
+        assertEquals(small, large, "Search issued " + small + " statements for 10 rows and " + large + " for 100");
+    }
+
+    @Test
+    void listEndpointsLoadFileCollectionsInBulk() {
+        long calls = countStatements(() -> requestService.getCalls(null, 100, false).items());
+        long byUser = countStatements(() -> requestService.getCallsByUser(SUBMITTER));
+
+        // Página + usuários + um lote por coleção de arquivos (2 coleções em 2 tipos de solicitação)
+        assertTrue(calls <= 6, "getCalls issued " + calls + " statements");
+        assertTrue(byUser <= 6, "getCallsByUser issued " + byUser + " statements");
+    }
+
+    @Test
+    void onlySubmitterPlansLoadTheUser() {
+        entityManager.clear();
+        statistics.clear();
+        List<Request> requests = requestRepository.findAll();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(requests.stream().noneMatch(request -> Hibernate.isInitialized(request.getUser())));
+
+        entityManager.clear();
+        statistics.clear();
+        List<Request> withSubmitter = requestRepository.findBySubmittedBy(SUBMITTER);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(withSubmitter.stream().allMatch(request -> Hibernate.isInitialized(request.getUser())));
+    }
+
+    private long countStatements(Supplier<List<RequestDto>> action) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<RequestDto> calls = action.get();
+
+        assertFalse(calls.isEmpty());
+        calls.stream()
+            .filter(call -> SUBMITTER.equals(call.submittedBy()))
+            .forEach(call -> assertEquals(2, call.documentacaoFiles().size()));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seed(int count) {
+        RequestFixtures fixtures = new RequestFixtures(dataSource);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<RequestFixtures.SeedRequest> requests = new ArrayList<>();
+        List<Object[]> files = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            RequestFixtures.SeedRequest request = RequestFixtures.request(i % 2 == 0 ? "MELHORIA" : "SUSTENTACAO",
+                    "Query count " + i, start.plusSeconds(i))
+                .withSubmittedBy(SUBMITTER)
+                .withTechnology(TECHNOLOGY);
+            requests.add(request);
+            files.add(new Object[]{request.id(), "doc-a-" + i + ".pdf"});
+            files.add(new Object[]{request.id(), "doc-b-" + i + ".pdf"});
+        }
+
+        fixtures.insertRequests(requests);
+        fixtures.jdbcTemplate().batchUpdate("INSERT INTO request_documentacao_files (request_id, file_name) VALUES (?, ?)", files);
+        fixtures.jdbcTemplate().batchUpdate("INSERT INTO request_evidencias_files (request_id, file_name) VALUES (?, ?)", files);
+    }
+}
@@ -0,0 +1,84 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.CallStatsDto;
+import com.rpa.chamados.support.RequestFixtures;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+class RequestStatsAggregationTest {
+
+    private static final int SEEDED_REQUESTS = 100_000;
+    private static final long MAX_RETAINED_BYTES = 16L * 1024 * 1024;
+    private static final String[] TYPES = {"MELHORIA", "SUSTENTACAO", "NOVO_PROJETO"};
+    private static final String[] TECHNOLOGIES = {"Stats UiPath", "Stats Python", "Stats Power Automate", "Stats Blue Prism"};
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void callStatsAreAggregatedInTheDatabase() {
+        CallStatsDto before = requestService.getCallStats();
+        seedRequests(1_200);
+
+        assertSeeded(before, requestService.getCallStats(), 1_200);
+    }
+
+    /**
+     * Com 100 mil solicitações a mais, as estatísticas saem de agregações no banco e não
+     * retêm as linhas no heap. Roda só sob demanda:
+     * {@code mvn test -Dtest=RequestStatsAggregationTest -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void callStatsOverManyRowsDoNotRetainThem() {
+        CallStatsDto before = requestService.getCallStats();
+        seedRequests(SEEDED_REQUESTS);
+
+        long usedBefore = usedHeapAfterGc();
+        CallStatsDto stats = requestService.getCallStats();
+        long retained = usedHeapAfterGc() - usedBefore;
+
+        assertSeeded(before, stats, SEEDED_REQUESTS);
+        assertTrue(retained < MAX_RETAINED_BYTES, "Heap grew by " + retained + " bytes");
+    }
+
+    private void assertSeeded(CallStatsDto before, CallStatsDto stats, int seeded) {
+        // Tipos e tecnologias se alternam pelo índice; as sobras da divisão ficam com os primeiros
+        assertEquals(before.total() + seeded, stats.total());
+        assertEquals(before.byServiceType().melhoria() + (seeded + 2) / 3, stats.byServiceType().melhoria());
+        assertEquals(before.byServiceType().sustentacao() + (seeded + 1) / 3, stats.byServiceType().sustentacao());
+        assertEquals(before.byServiceType().novoProjeto() + seeded / 3, stats.byServiceType().novoProjeto());
+        assertEquals((seeded + 3) / TECHNOLOGIES.length, stats.byTechnology().get("Stats UiPath"));
+    }
+
+    private void seedRequests(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        new RequestFixtures(dataSource).insertRequests(count, i ->
+            RequestFixtures.request(TYPES[i % TYPES.length], "Solicitação de carga " + i, now)
+                .withSubmittedBy("carga@stefanini.com")
+                .withCelula("62" + (i % 5))
+                .withTechnology(TECHNOLOGIES[i % TECHNOLOGIES.length]));
+    }
+
+    private long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,102 @@
+package com.rpa.chamados.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rpa.chamados.controller.dto.CursorPageDto;
+import com.rpa.chamados.controller.dto.RequestDto;
+import com.rpa.chamados.controller.dto.RequestSummaryDto;
+import com.rpa.chamados.domain.model.enums.ServiceType;
+import com.rpa.chamados.support.RequestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class RequestSummaryProjectionTest {
+
+    private static final String TECHNOLOGY = "Summary Tech";
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        seed(30);
+    }
+
+    @Test
+    void summaryPageIsOneQueryAndMatchesTheFullListing() {
+        Statistics statistics = RequestFixtures.statistics(entityManagerFactory);
+
+        CursorPageDto<RequestSummaryDto> summaries = requestService.searchCallSummaries(null, null, null, TECHNOLOGY,
+                null, 20, false, null);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        CursorPageDto<RequestDto> full = requestService.searchCalls(null, null, null, TECHNOLOGY, null, null, null,
+                null, null, null, 20, false);
+        assertEquals(full.items().stream().map(RequestDto::id).toList(),
+                summaries.items().stream().map(RequestSummaryDto::id).toList());
+        assertEquals(full.hasNext(), summaries.hasNext());
+
+        RequestDto first = full.items().getFirst();
+        RequestSummaryDto summary = summaries.items().getFirst();
+        assertEquals(first.serviceType(), summary.serviceType());
+        assertEquals(first.roi(), summary.roi());
+        assertEquals(first.robotSelecionado(), summary.robotSelecionado());
+        assertEquals(first.submitterInfo().email(), summary.submitterInfo().email());
+    }
+
+    @Test
+    void sparseFieldsAreLeftOutOfTheJson() throws Exception {
+        CursorPageDto<RequestSummaryDto> page = requestService.searchCallSummaries(null, "novo-projeto", null,
+                TECHNOLOGY, null, 5, false, Set.of("serviceType", "roi"));
+
+        RequestSummaryDto summary = page.items().getFirst();
+        assertEquals(ServiceType.NOVO_PROJETO, summary.serviceType());
+        assertNotNull(summary.roi());
+        assertNull(summary.description());
+
+        String json = objectMapper.writeValueAsString(summary);
+        assertTrue(json.contains("\"roi\""));
+        assertFalse(json.contains("description"));
+        assertFalse(json.contains("submitterInfo"));
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> requestService.getCallSummaries(null, 10, false, Set.of("id", "usaMFA")));
+    }
+
+    private void seed(int count) {
+        LocalDateTime start = LocalDateTime.now().plusDays(2);
+        new RequestFixtures(dataSource).insertRequests(count, i -> {
+            boolean novoProjeto = i % 3 == 0;
+            return RequestFixtures.request(novoProjeto ? "NOVO_PROJETO" : "MELHORIA", "Summary " + i, start.plusSeconds(i))
+                .withTechnology(TECHNOLOGY)
+                .withRobot("Robô " + i)
+                .withRoi(novoProjeto ? "ROI " + i : null);
+        });
+    }
+}
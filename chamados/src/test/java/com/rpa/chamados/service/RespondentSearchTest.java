@@ -0,0 +1,90 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.SubmitterInfoDto;
+import com.rpa.chamados.support.RequestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class RespondentSearchTest {
+
+    private static final String DEPARTMENT = "Search Dept";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        RequestFixtures fixtures = new RequestFixtures(dataSource);
+        for (int i = 0; i < 30; i++) {
+            UUID id = UUID.randomUUID();
+            String company = i % 2 == 0 ? "ACME" : "GLOBEX";
+            LocalDate joinedAt = LocalDate.of(2025, 1, 1).plusDays(i);
+            fixtures.insertUser(id, String.format("Respondent %02d", i), "respondent" + i + "@stefanini.com",
+                    DEPARTMENT, company, i % 3 != 0, joinedAt.atTime(12, 0));
+            if (i % 5 == 0) {
+                fixtures.insertRequest(RequestFixtures.request("NOVO_PROJETO", "Search", LocalDateTime.now()).withUser(id));
+            }
+        }
+    }
+
+    @Test
+    void filtersRunInTheDatabaseAndReturnAProjection() {
+        Statistics statistics = RequestFixtures.statistics(entityManagerFactory);
+
+        Page<SubmitterInfoDto> page = userService.searchFormRespondents(null, DEPARTMENT, "ACME", true, null,
+                null, null, PageRequest.of(0, 4));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        // 15 da ACME, dos quais 5 inativos (i múltiplo de 3 e par)
+        assertEquals(10, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(4, page.getContent().size());
+        assertEquals("Respondent 02", page.getContent().getFirst().name());
+        assertTrue(page.getContent().stream().allMatch(user -> "ACME".equals(user.company()) && user.isActive()));
+    }
+
+    @Test
+    void searchDateRangeAndServiceTypeAreApplied() {
+        Page<SubmitterInfoDto> byName = userService.searchFormRespondents("RESPONDENT 1", DEPARTMENT, null, null, null,
+                null, null, PageRequest.of(0, 50));
+        assertEquals(10, byName.getTotalElements());
+
+        Page<SubmitterInfoDto> byDate = userService.searchFormRespondents(null, DEPARTMENT, null, null, null,
+                "2025-01-05", "2025-01-09", PageRequest.of(0, 50));
+        assertEquals(5, byDate.getTotalElements());
+
+        Page<SubmitterInfoDto> byServiceType = userService.searchFormRespondents(null, DEPARTMENT, null, null,
+                "novo-projeto", null, null, PageRequest.of(0, 50));
+        assertEquals(6, byServiceType.getTotalElements());
+    }
+
+    @Test
+    void invalidFiltersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> userService.searchFormRespondents(null, null, null, null,
+                "helpdesk", null, null, PageRequest.of(0, 10)));
+        assertThrows(IllegalArgumentException.class, () -> userService.searchFormRespondents(null, null, null, null,
+                null, "31/01/2025", null, PageRequest.of(0, 10)));
+    }
+}
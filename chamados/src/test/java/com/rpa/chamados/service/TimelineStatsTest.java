@@ -0,0 +1,85 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.TimelineStatsDto;
+import com.rpa.chamados.domain.model.enums.TimelineGranularity;
+import com.rpa.chamados.support.RequestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class TimelineStatsTest {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void weeklySeriesIsDenseAlignedToIsoWeeksAndOneQuery() {
+        List<TimelineStatsDto> before = requestService.getTimelineStats(8, TimelineGranularity.WEEK);
+
+        LocalDate thisMonday = LocalDate.now().with(DayOfWeek.MONDAY);
+        // Domingo da semana passada e segunda desta semana: semanas diferentes
+        insert("MELHORIA", thisMonday.minusDays(1).atTime(23, 30));
+        insert("MELHORIA", thisMonday.atTime(0, 15));
+        insert("SUSTENTACAO", thisMonday.atTime(9, 0));
+        insert("NOVO_PROJETO", thisMonday.minusWeeks(7).atTime(12, 0));
+        insert("NOVO_PROJETO", thisMonday.minusWeeks(8).atTime(12, 0));
+
+        Statistics statistics = RequestFixtures.statistics(entityManagerFactory);
+        List<TimelineStatsDto> after = requestService.getTimelineStats(8, TimelineGranularity.WEEK);
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        assertEquals(8, after.size());
+        for (int i = 0; i < after.size(); i++) {
+            TimelineStatsDto period = after.get(i);
+            assertEquals(thisMonday.minusWeeks(7 - i), period.startDate());
+            assertEquals(period.startDate().plusDays(6), period.endDate());
+            assertEquals(3, period.byServiceType().size());
+            assertEquals("Sem " + (i + 1), period.period());
+        }
+
+        TimelineStatsDto current = after.get(7);
+        TimelineStatsDto previous = after.get(6);
+        TimelineStatsDto oldest = after.get(0);
+        assertEquals(2, current.totalRequests() - before.get(7).totalRequests());
+        assertEquals(1, current.byServiceType().get("SUSTENTACAO") - before.get(7).byServiceType().get("SUSTENTACAO"));
+        assertEquals(1, previous.totalRequests() - before.get(6).totalRequests());
+        assertEquals(1, oldest.byServiceType().get("NOVO_PROJETO") - before.get(0).byServiceType().get("NOVO_PROJETO"));
+    }
+
+    @Test
+    void monthlyAndDailySeriesCoverTheWindow() {
+        List<TimelineStatsDto> months = requestService.getTimelineStats(13, TimelineGranularity.MONTH);
+        assertEquals(13, months.size());
+        assertEquals(LocalDate.now().withDayOfMonth(1), months.getLast().startDate());
+        assertEquals(LocalDate.now().withDayOfMonth(1).minusMonths(12), months.getFirst().startDate());
+        assertEquals(months.get(1).startDate().minusDays(1), months.getFirst().endDate());
+
+        List<TimelineStatsDto> days = requestService.getTimelineStats(30, TimelineGranularity.DAY);
+        assertEquals(30, days.size());
+        assertEquals(LocalDate.now(), days.getLast().startDate());
+        assertEquals(days.getLast().startDate(), days.getLast().endDate());
+    }
+
+    private void insert(String type, LocalDateTime createdAt) {
+        new RequestFixtures(dataSource).insertRequest(RequestFixtures.request(type, "Timeline", createdAt));
+    }
+}
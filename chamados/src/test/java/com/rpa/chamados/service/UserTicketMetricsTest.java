@@ -0,0 +1,99 @@
+package com.rpa.chamados.service;
+
+import com.rpa.chamados.controller.dto.UserTicketMetricsDto;
+import com.rpa.chamados.support.RequestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class UserTicketMetricsTest {
+
+    private static final UUID HEAVY_USER = UUID.randomUUID();
+    private static final UUID MEDIUM_USER = UUID.randomUUID();
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private LocalDateTime lastHeavySubmission;
+
+    @BeforeEach
+    void setUp() {
+        RequestFixtures fixtures = new RequestFixtures(dataSource);
+        insertUser(fixtures, HEAVY_USER, "Heavy");
+        insertUser(fixtures, MEDIUM_USER, "Medium");
+
+        LocalDateTime start = LocalDateTime.now().minusDays(10).withNano(0);
+        List<RequestFixtures.SeedRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            LocalDateTime createdAt = start.plusMinutes(i);
+            // Metade atualizada após 1h e metade após 3h: média de 2h
+            LocalDateTime updatedAt = createdAt.plusHours(i % 2 == 0 ? 1 : 3);
+            requests.add(request(HEAVY_USER, i % 3 == 0 ? "NOVO_PROJETO" : "MELHORIA", createdAt, updatedAt));
+            lastHeavySubmission = createdAt;
+        }
+        for (int i = 0; i < 40; i++) {
+            LocalDateTime createdAt = start.plusMinutes(i);
+            requests.add(request(MEDIUM_USER, "SUSTENTACAO", createdAt, createdAt.plusMinutes(30)));
+        }
+        fixtures.insertRequests(requests);
+    }
+
+    @Test
+    void topUsersAreRankedInTheDatabase() {
+        Statistics statistics = RequestFixtures.statistics(entityManagerFactory);
+
+        List<UserTicketMetricsDto> top = requestService.getTopUserTicketMetrics(2);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of(HEAVY_USER.toString(), MEDIUM_USER.toString()),
+                top.stream().map(UserTicketMetricsDto::userId).toList());
+
+        UserTicketMetricsDto heavy = top.getFirst();
+        assertEquals("Heavy", heavy.userName());
+        assertEquals(60, heavy.totalTickets());
+        assertEquals(20L, heavy.ticketsByServiceType().get("NOVO_PROJETO"));
+        assertEquals(40L, heavy.ticketsByServiceType().get("MELHORIA"));
+        assertEquals(lastHeavySubmission, heavy.lastSubmission());
+        assertEquals(2.0, heavy.avgHoursToLastUpdate(), 0.001);
+        assertEquals(0.5, top.get(1).avgHoursToLastUpdate(), 0.001);
+    }
+
+    @Test
+    void fullListingMatchesTheTopUsers() {
+        List<UserTicketMetricsDto> all = requestService.getUserTicketMetrics();
+
+        assertEquals(requestService.getTopUserTicketMetrics(2), all.subList(0, 2));
+        assertTrue(all.size() > 2);
+        assertThrows(IllegalArgumentException.class, () -> requestService.getTopUserTicketMetrics(0));
+    }
+
+    private static RequestFixtures.SeedRequest request(UUID userId, String type, LocalDateTime createdAt,
+                                                       LocalDateTime updatedAt) {
+        return RequestFixtures.request(type, "Metrics", createdAt).withUser(userId).withUpdatedAt(updatedAt);
+    }
+
+    private static void insertUser(RequestFixtures fixtures, UUID id, String name) {
+        fixtures.insertUser(id, name, id + "@stefanini.com", "Metrics Dept", "STEFANINI", true, LocalDateTime.now());
+    }
+}
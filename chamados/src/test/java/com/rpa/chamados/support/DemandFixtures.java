@@ -0,0 +1,50 @@
+package com.rpa.chamados.support;
+
+import com.rpa.chamados.domain.model.Client;
+import com.rpa.chamados.domain.model.Project;
+import com.rpa.chamados.domain.model.Robot;
+import com.rpa.chamados.domain.model.User;
+import com.rpa.chamados.domain.model.enums.Area;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Cadastros que as demandas referenciam, persistidos pelo {@link EntityManager} da transação do teste.
+ */
+public final class DemandFixtures {
+
+    private final EntityManager entityManager;
+
+    public DemandFixtures(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Cliente, projeto, robô e usuário com o mesmo prefixo no nome, como "Import client" e "Import project".
+     */
+    public References references(String prefix, String email) {
+        Client client = new Client();
+        client.setName(prefix + " client");
+        entityManager.persist(client);
+
+        Project project = Project.builder().name(prefix + " project").area(Area.INTERN).client(client).build();
+        entityManager.persist(project);
+
+        Robot robot = Robot.builder().name(prefix + " robot").build();
+        entityManager.persist(robot);
+
+        return new References(client, project, robot, user(prefix + " user", email));
+    }
+
+    public User user(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        user.setDepartment("Demands");
+        user.setCompany("STEFANINI");
+        entityManager.persist(user);
+        return user;
+    }
+
+    public record References(Client client, Project project, Robot robot, User user) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.rpa.chamados.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Massa de dados dos testes que gravam usuários e solicitações direto por JDBC, sem passar pelas
+ * entidades, para não influenciar as contagens de comandos do Hibernate.
+ */
+public final class RequestFixtures {
+
+    /**
+     * Usuário criado pelo {@code data.sql}, dono das solicitações quando o teste não cria outro.
+     */
+    public static final UUID SEED_USER_ID = UUID.fromString("3f5d5b9a-2a6c-4d8e-8e2b-74a946e6f5f7");
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RequestFixtures(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Estatísticas do Hibernate habilitadas e zeradas.
+     */
+    public static Statistics statistics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    /**
+     * Solicitação do usuário semente com {@code updatedAt} igual a {@code createdAt}.
+     */
+    public static SeedRequest request(String type, String description, LocalDateTime createdAt) {
+        return new SeedRequest(UUID.randomUUID(), type, description, SEED_USER_ID, null, null, null, null, null,
+                createdAt, createdAt);
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public void insertRequest(SeedRequest request) {
+        insertRequests(List.of(request));
+    }
+
+    public void insertRequests(List<SeedRequest> requests) {
+        insertRequests(requests.size(), requests::get);
+    }
+
+    /**
+     * Grava {@code count} solicitações em lotes JDBC, gerando cada uma só quando o lote dela é montado.
+     */
+    public void insertRequests(int count, IntFunction<SeedRequest> row) {
+        List<Object[]> batch = new ArrayList<>(Math.min(count, BATCH_SIZE));
+        for (int i = 0; i < count; i++) {
+            batch.add(row.apply(i).toParameters());
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO requests (id, type, description, user_id, submitted_by, celula, tecnologia_automacao, " +
+                    "robot, roi, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    batch
+                );
+                batch.clear();
+            }
+        }
+    }
+
+    public void insertUser(UUID id, String name, String email, String department, String company, boolean active,
+                           LocalDateTime joinedAt) {
+        jdbcTemplate.update(
+            "INSERT INTO users (id, name, email, department, company, role, is_active, requests_submitted, joined_at) " +
+            "VALUES (?, ?, ?, ?, ?, 'Usuário', ?, 0, ?)",
+            id, name, email, department, company, active, Timestamp.valueOf(joinedAt)
+        );
+    }
+
+    /**
+     * Linha da tabela {@code requests}; as colunas não informadas ficam nulas.
+     */
+    public record SeedRequest(UUID id, String type, String description, UUID userId, String submittedBy,
+                              String celula, String technology, String robot, String roi,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        public SeedRequest withUser(UUID userId) {
+            return new SeedRequest(id, type, description, userId, submittedBy, celula, technology, robot, roi,
+                    createdAt, updatedAt);
+        }
+
+        public SeedRequest withSubmittedBy(String submittedBy) {
+            return new SeedRequest(id, type, description, userId, submittedBy, celula, technology, robot, roi,
+                    createdAt, updatedAt);
+        }
+
+        public SeedRequest withCelula(String celula) {
+            return new SeedRequest(id, type, description, userId, submittedBy, celula, technology, robot, roi,
+                    createdAt, updatedAt);
+        }
+
+        public SeedRequest withTechnology(String technology) {
+            return new SeedRequest(id, type, description, userId, submittedBy, celula, technology, robot, roi,
+                    createdAt, updatedAt);
+        }
+
+        public SeedRequest withRobot(String robot) {
+            return new SeedRequest(id, type, description, userId, submittedBy, celula, technology, robot, roi,
+                    createdAt, updatedAt);
+        }
+
+        public SeedRequest withRoi(String roi) {
+            return new SeedRequest(id, type, description, userId, submittedBy, celula, technology, robot, roi,
+                    createdAt, updatedAt);
+        }
+
+        public SeedRequest withUpdatedAt(LocalDateTime updatedAt) {
+            return new SeedRequest(id, type, description, userId, submittedBy, celula, technology, robot, roi,
+                    createdAt, updatedAt);
+        }
+
+        private Object[] toParameters() {
+            return new Object[]{
+                id, type, description, userId, submittedBy, celula, technology, robot, roi,
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt)
+            };
+        }
+    }
+}
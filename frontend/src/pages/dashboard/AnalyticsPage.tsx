@@ -1,8 +1,8 @@
 import { useState, useEffect } from 'react';
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '../../components/ui/card';
 import { ChartContainer, ChartTooltip, ChartTooltipContent, ChartLegend, ChartLegendContent } from '../../components/ui/chart';
-import { getCallStats, getCalls, getTimelineStats } from '../../services/callsService';
-import { type CallStats, type Call, type TimelineStats } from '../../types';
+import { getCallStats, getTimelineStats } from '../../services/callsService';
+import { type CallStats, type TimelineStats } from '../../types';
 import { 
   BarChart, 
   Bar, 
@@ -18,7 +18,6 @@ import { BarChart3, Loader2 } from 'lucide-react';
 
 export default function AnalyticsPage() {
   const [stats, setStats] = useState<CallStats | null>(null);
-  const [_, setCalls] = useState<Call[]>([]);
   const [timelineStats, setTimelineStats] = useState<TimelineStats[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
@@ -32,14 +31,12 @@ export default function AnalyticsPage() {
       setLoading(true);
       setError(null);
       
-      const [statsData, callsData, timelineData] = await Promise.all([
+      const [statsData, timelineData] = await Promise.all([
         getCallStats(),
-        getCalls(),
         getTimelineStats(8)
       ]);
       
       setStats(statsData);
-      setCalls(callsData);
       setTimelineStats(timelineData);
       
     } catch (err) {
@@ -3,12 +3,19 @@ import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '../..
 import { Button } from '../../components/ui/button';
 import { Input } from '../../components/ui/input';
 import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from '../../components/ui/select';
-import { getCalls, searchCalls, type CallFilters, type CallSearchResponse } from '../../services/callsService';
+import { getCalls, searchCalls, type CallFilters, type CallPage } from '../../services/callsService';
 import { type Call } from '../../types';
 import CallViewModal from '../../components/CallViewModal';
 import CallEditModal from '../../components/CallEditModal';
 import { Search, Filter, Eye, Edit, Settings, Cpu, Building2, User, Mail, Phone, Loader2 } from 'lucide-react';
 
+const PAGE_SIZE = 50;
+// Só o que a listagem exibe; os modais buscam o chamado completo pelo id
+const LIST_FIELDS = [
+  'serviceType', 'description', 'submitterInfo', 'celula', 'robotSelecionado',
+  'tecnologiaAutomacao', 'empresa', 'roi', 'createdAt', 'updatedAt'
+];
+
 export default function CallsPage() {
   const [calls, setCalls] = useState<Call[]>([]);
   const [loading, setLoading] = useState(true);
@@ -18,8 +25,8 @@ export default function CallsPage() {
   const [departmentFilter, setDepartmentFilter] = useState<string>('all');
   const [technologyFilter, setTechnologyFilter] = useState<string>('all');
   const [totalCalls, setTotalCalls] = useState(0);
-  const [currentPage, setCurrentPage] = useState(0);
-  const [_, setTotalPages] = useState(0);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   
   const [viewModalCallId, setViewModalCallId] = useState<string | null>(null);
   const [editModalCallId, setEditModalCallId] = useState<string | null>(null);
@@ -39,32 +46,35 @@ export default function CallsPage() {
     }
   }, [searchTerm, serviceTypeFilter, departmentFilter, technologyFilter]);
 
+  const buildFilters = (cursor?: string): CallFilters => ({
+    search: searchTerm || undefined,
+    serviceType: serviceTypeFilter !== 'all' ? serviceTypeFilter as Call['serviceType'] : undefined,
+    department: departmentFilter !== 'all' ? departmentFilter : undefined,
+    technology: technologyFilter !== 'all' ? technologyFilter : undefined,
+    cursor,
+    limit: PAGE_SIZE,
+    includeTotal: !cursor,
+    fields: LIST_FIELDS
+  });
+
+  const fetchPage = async (cursor?: string): Promise<CallPage> => {
+    const filters = buildFilters(cursor);
+
+    if (!filters.search && !filters.serviceType && !filters.department && !filters.technology) {
+      return getCalls({ cursor, limit: PAGE_SIZE, includeTotal: !cursor, fields: LIST_FIELDS });
+    }
+    return searchCalls(filters);
+  };
+
   const loadCalls = async () => {
     try {
       setLoading(true);
       setError(null);
       
-      const filters: CallFilters = {
-        search: searchTerm || undefined,
-        serviceType: serviceTypeFilter !== 'all' ? serviceTypeFilter as Call['serviceType'] : undefined,
-        department: departmentFilter !== 'all' ? departmentFilter : undefined,
-        technology: technologyFilter !== 'all' ? technologyFilter : undefined,
-        page: currentPage,
-        limit: 50
-      };
-
-      if (!filters.search && !filters.serviceType && !filters.department && !filters.technology) {
-        const allCalls = await getCalls();
-        setCalls(allCalls);
-        setTotalCalls(allCalls.length);
-        setTotalPages(1);
-      } else {
-        const response: CallSearchResponse = await searchCalls(filters);
-        setCalls(response.calls);
-        setTotalCalls(response.total);
-        setCurrentPage(response.page);
-        setTotalPages(response.totalPages);
-      }
+      const page = await fetchPage();
+      setCalls(page.calls);
+      setTotalCalls(page.total ?? page.calls.length);
+      setNextCursor(page.nextCursor);
     } catch (err) {
       console.error('Error loading calls:', err);
       setError('Erro ao carregar solicitações. Tente novamente.');
@@ -73,6 +83,22 @@ export default function CallsPage() {
     }
   };
 
+  const loadMoreCalls = async () => {
+    if (!nextCursor) return;
+
+    try {
+      setLoadingMore(true);
+      const page = await fetchPage(nextCursor);
+      setCalls(previous => [...previous, ...page.calls]);
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      console.error('Error loading more calls:', err);
+      setError('Erro ao carregar solicitações. Tente novamente.');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const getServiceTypeLabel = (serviceType: string) => {
     switch (serviceType) {
       case 'NOVO_PROJETO': return 'Novo Projeto';
@@ -342,6 +368,14 @@ export default function CallsPage() {
                 </div>
               ))
             )}
+            {!loading && !error && nextCursor && (
+              <div className="text-center pt-2">
+                <Button onClick={loadMoreCalls} variant="outline" disabled={loadingMore}>
+                  {loadingMore && <Loader2 className="h-4 w-4 mr-2 animate-spin" />}
+                  Carregar mais
+                </Button>
+              </div>
+            )}
           </div>
         </CardContent>
       </Card>
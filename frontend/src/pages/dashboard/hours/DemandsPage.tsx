@@ -39,7 +39,7 @@ import {
   createDemand,
   updateDemand,
   deleteDemand,
-  searchDemands,
+  queryDemands,
   getDemandStatusLabel,
   getDemandStatusColor,
   getServiceTypeLabel,
@@ -62,6 +62,8 @@ import { Search, Plus, Edit, Trash2, Briefcase, Loader2, Building2 } from 'lucid
 import { useToast } from '../../../hooks/use-toast';
 import { useForm, Controller } from 'react-hook-form';
 
+const PAGE_SIZE = 50;
+
 interface DemandFormData {
   name: string;
   docHours: number;
@@ -93,6 +95,9 @@ export default function DemandsPage() {
   const [searchTerm, setSearchTerm] = useState('');
   const [statusFilter, setStatusFilter] = useState<string>('all');
   const [typeFilter, setTypeFilter] = useState<string>('all');
+  const [totalDemands, setTotalDemands] = useState<number | null>(null);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   // Modal states
   const [isCreateModalOpen, setIsCreateModalOpen] = useState(false);
@@ -177,23 +182,30 @@ export default function DemandsPage() {
     }
   };
 
+  const hasFilters = () => Boolean(searchTerm.trim()) || statusFilter !== 'all' || typeFilter !== 'all';
+
+  // Filtered results come from the paged query; the cursor is kept for "Carregar mais"
+  const fetchFilteredPage = (cursor?: string) => queryDemands({
+    search: searchTerm.trim() || undefined,
+    status: statusFilter !== 'all' ? (statusFilter as DemandStatus) : undefined,
+    type: typeFilter !== 'all' ? (typeFilter as ServiceType) : undefined
+  }, { cursor, limit: PAGE_SIZE, includeTotal: !cursor });
+
   const loadDemands = async () => {
     try {
       setLoading(true);
       setError(null);
 
-      let demandsData: Demand[];
-      if (searchTerm.trim() || statusFilter !== 'all' || typeFilter !== 'all') {
-        demandsData = await searchDemands({
-          search: searchTerm.trim() || undefined,
-          status: statusFilter !== 'all' ? (statusFilter as DemandStatus) : undefined,
-          type: typeFilter !== 'all' ? (typeFilter as ServiceType) : undefined
-        });
+      if (hasFilters()) {
+        const page = await fetchFilteredPage();
+        setDemands(page.items);
+        setTotalDemands(page.total);
+        setNextCursor(page.nextCursor);
       } else {
-        demandsData = await getDemands();
+        setDemands(await getDemands());
+        setTotalDemands(null);
+        setNextCursor(null);
       }
-
-      setDemands(demandsData);
     } catch (err) {
       console.error('Error loading demands:', err);
       setError('Erro ao carregar demandas. Tente novamente.');
@@ -207,6 +219,26 @@ export default function DemandsPage() {
     }
   };
 
+  const loadMoreDemands = async () => {
+    if (!nextCursor) return;
+
+    try {
+      setLoadingMore(true);
+      const page = await fetchFilteredPage(nextCursor);
+      setDemands(previous => [...previous, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      console.error('Error loading more demands:', err);
+      toast({
+        title: "Erro",
+        description: "Erro ao carregar demandas. Tente novamente.",
+        variant: "destructive"
+      });
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleCreateDemand = () => {
     createForm.reset({
       name: '',
@@ -497,7 +529,7 @@ export default function DemandsPage() {
         <CardHeader>
           <CardTitle className="flex items-center gap-2">
             <Briefcase className="h-5 w-5" />
-            Demandas ({demands.length})
+            Demandas ({totalDemands ?? demands.length})
             {loading && <Loader2 className="h-4 w-4 animate-spin" />}
           </CardTitle>
         </CardHeader>
@@ -650,6 +682,14 @@ export default function DemandsPage() {
                   </TableBody>
                 </Table>
               </div>
+              {nextCursor && (
+                <div className="text-center pt-4">
+                  <Button onClick={loadMoreDemands} variant="outline" disabled={loadingMore}>
+                    {loadingMore && <Loader2 className="h-4 w-4 mr-2 animate-spin" />}
+                    Carregar mais
+                  </Button>
+                </div>
+              )}
             </div>
           )}
         </CardContent>
@@ -83,10 +83,37 @@ export const submitCall = async (formData: any): Promise<SubmissionResponse> =>
   return retryRequest(submitRequest, 2, 2000);
 };
 
-export const getCalls = async (): Promise<Call[]> => {
+export interface CallPageOptions {
+  cursor?: string;
+  limit?: number;
+  includeTotal?: boolean;
+  fields?: string[]; // Campos do resumo a retornar (listagens); sem fields vem o chamado completo
+}
+
+export interface CallPage {
+  calls: Call[];
+  nextCursor: string | null;
+  hasNext: boolean;
+  total: number | null;
+}
+
+const toCallPage = (data: any): CallPage => ({
+  calls: transformCallsFromAPI(data.items || []),
+  nextCursor: data.nextCursor ?? null,
+  hasNext: Boolean(data.hasNext),
+  total: data.total ?? null
+});
+
+export const getCalls = async (options: CallPageOptions = {}): Promise<CallPage> => {
   try {
-    const response = await api.get<any[]>('calls');
-    return transformCallsFromAPI(response.data);
+    const params = new URLSearchParams();
+    if (options.cursor) params.append('cursor', options.cursor);
+    if (options.limit) params.append('limit', String(options.limit));
+    if (options.includeTotal) params.append('includeTotal', 'true');
+    if (options.fields?.length) params.append('fields', options.fields.join(','));
+
+    const response = await api.get<any>(`calls?${params}`);
+    return toCallPage(response.data);
   } catch (error) {
     console.error('Error getting calls:', error);
     throw error;
@@ -124,16 +151,13 @@ export interface CallFilters {
   technology?: string; // Technology filter
   dateFrom?: string;
   dateTo?: string;
-  page?: number;
+  cursor?: string;
   limit?: number;
+  includeTotal?: boolean;
+  fields?: string[];
 }
 
-export interface CallSearchResponse {
-  calls: Call[];
-  total: number;
-  page: number;
-  totalPages: number;
-}
+export type CallSearchResponse = CallPage;
 
 export const searchCalls = async (filters: CallFilters): Promise<CallSearchResponse> => {
   try {
@@ -146,14 +170,7 @@ export const searchCalls = async (filters: CallFilters): Promise<CallSearchRespo
     });
 
     const response = await api.get<any>(`calls/search?${params}`);
-    const apiResponse = response.data;
-    
-    return {
-      calls: transformCallsFromAPI(apiResponse.calls || []),
-      total: apiResponse.total || 0,
-      page: apiResponse.page || 0,
-      totalPages: apiResponse.totalPages || 0
-    };
+    return toCallPage(response.data);
   } catch (error) {
     console.error('Error searching calls:', error);
     throw error;
@@ -205,7 +222,7 @@ export const bulkUpdateCalls = async (
 
 export const exportCalls = async (
   filters: CallFilters,
-  format: 'xlsx' | 'csv' = 'xlsx'
+  format: 'csv' | 'ndjson' = 'csv'
 ): Promise<Blob> => {
   const params = new URLSearchParams();
   
@@ -261,12 +278,13 @@ export interface UserTicketMetrics {
   totalTickets: number;
   ticketsByServiceType: Record<string, number>;
   lastSubmission: Date;
-  avgResponseTime: number;
+  avgHoursToLastUpdate: number;
 }
 
-export const getUserTicketMetrics = async (): Promise<UserTicketMetrics[]> => {
+export const getUserTicketMetrics = async (limit?: number): Promise<UserTicketMetrics[]> => {
   try {
-    const response = await api.get<any[]>('calls/stats/users');
+    const query = limit !== undefined ? `?limit=${limit}` : '';
+    const response = await api.get<any[]>(`calls/stats/users${query}`);
     return response.data.map((item: any) => ({
       userId: item.userId,
       userName: item.userName,
@@ -274,7 +292,7 @@ export const getUserTicketMetrics = async (): Promise<UserTicketMetrics[]> => {
       totalTickets: Number(item.totalTickets),
       ticketsByServiceType: item.ticketsByServiceType || {},
       lastSubmission: new Date(item.lastSubmission),
-      avgResponseTime: Number(item.avgResponseTime)
+      avgHoursToLastUpdate: Number(item.avgHoursToLastUpdate)
     }));
   } catch (error) {
     console.error('Error getting user ticket metrics:', error);
@@ -124,6 +124,36 @@ export const deleteDemand = async (id: number): Promise<void> => {
   });
 };
 
+export interface DemandImportError {
+  row: number;
+  field: string | null;
+  message: string;
+  rejectedValue: unknown;
+}
+
+export interface DemandImportResult {
+  received: number;
+  created: number;
+  errors: DemandImportError[];
+}
+
+// Bulk import from a JSON list or a CSV file. Nothing is created when any row has errors,
+// so the 400 response carries the per-row errors instead of being thrown. Not retried:
+// a repeated upload would only report the names as duplicated.
+export const importDemands = async (demands: CreateDemandRequest[] | File): Promise<DemandImportResult> => {
+  let body: CreateDemandRequest[] | FormData = demands as CreateDemandRequest[];
+  if (demands instanceof File) {
+    body = new FormData();
+    body.append('file', demands);
+  }
+
+  const response = await api.post<DemandImportResult>('/demands/bulk', body, {
+    timeout: 60000,
+    validateStatus: (status) => status === 201 || status === 400
+  });
+  return response.data;
+};
+
 // Filter by status
 export const getDemandsByStatus = async (status: DemandStatus): Promise<Demand[]> => {
   return retryRequest(async () => {
@@ -156,37 +186,40 @@ export const getDemandsByType = async (type: ServiceType): Promise<Demand[]> =>
   });
 };
 
-export const searchDemands = async (filters: DemandFilters): Promise<Demand[]> => {
-  return retryRequest(async () => {
-    let demands: Demand[] = [];
+export interface DemandPage {
+  items: Demand[];
+  nextCursor: string | null;
+  hasNext: boolean;
+  total: number | null;
+}
 
-    // Use specific API endpoints when available
-    if (filters.status) {
-      demands = await getDemandsByStatus(filters.status);
-    } else if (filters.projectId) {
-      demands = await getDemandsByProject(filters.projectId);
-    } else if (filters.robotId) {
-      demands = await getDemandsByRobot(filters.robotId);
-    } else if (filters.type) {
-      demands = await getDemandsByType(filters.type);
-    } else {
-      demands = await getDemands();
-    }
+// Paged query combining every filter on the server
+export const queryDemands = async (
+  filters: DemandFilters,
+  options: { cursor?: string; limit?: number; includeTotal?: boolean } = {}
+): Promise<DemandPage> => {
+  return retryRequest(async () => {
+    const params = new URLSearchParams();
 
-    // Apply local filters
-    if (filters.search) {
-      const searchTerm = filters.search.toLowerCase();
-      demands = demands.filter(demand =>
-        demand.name.toLowerCase().includes(searchTerm) ||
-        demand.description.toLowerCase().includes(searchTerm) ||
-        demand.focalPoint.name.toLowerCase().includes(searchTerm) ||
-        demand.analyst.name.toLowerCase().includes(searchTerm) ||
-        demand.project.name.toLowerCase().includes(searchTerm) ||
-        demand.robot.name.toLowerCase().includes(searchTerm)
-      );
-    }
+    if (filters.search) params.append('search', filters.search);
+    if (filters.status) params.append('status', filters.status);
+    if (filters.type) params.append('type', filters.type);
+    if (filters.analystId) params.append('analystId', filters.analystId);
+    if (filters.focalPointId) params.append('focalPointId', filters.focalPointId);
+    if (filters.projectId) params.append('projectId', filters.projectId.toString());
+    if (filters.clientId) params.append('clientId', filters.clientId.toString());
+    if (filters.robotId) params.append('robotId', filters.robotId.toString());
+    if (options.cursor) params.append('cursor', options.cursor);
+    params.append('limit', (options.limit ?? 50).toString());
+    if (options.includeTotal) params.append('includeTotal', 'true');
 
-    return demands;
+    const response = await api.get<any>(`/demands/query?${params}`);
+    return {
+      items: response.data?.items?.map(transformDemandFromAPI) || [],
+      nextCursor: response.data?.nextCursor ?? null,
+      hasNext: Boolean(response.data?.hasNext),
+      total: response.data?.total ?? null
+    };
   });
 };
 
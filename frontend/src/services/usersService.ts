@@ -111,7 +111,13 @@ export const getUsersAsSelectOptions = async (searchTerm?: string) => {
 // Get department analytics
 export const getDepartmentAnalytics = async () => {
   return retryRequest(async () => {
-    const response = await api.get<Array<{ department: string; userCount: number; requestCount: number }>>('/users/analytics/departments');
+    const response = await api.get<Array<{
+      department: string;
+      totalUsers: number;
+      activeUsers: number;
+      totalRequests: number;
+      avgRequestsPerUser: number;
+    }>>('/users/analytics/departments');
     return response.data;
   });
 };
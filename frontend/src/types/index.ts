@@ -222,7 +222,7 @@ export interface UserTicketMetrics {
   totalTickets: number;
   ticketsByServiceType: Record<string, number>;
   lastSubmission: Date;
-  avgResponseTime: number;
+  avgHoursToLastUpdate: number;
 }
 
 export interface DashboardData {